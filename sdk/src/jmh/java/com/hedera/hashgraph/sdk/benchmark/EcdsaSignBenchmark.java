@@ -0,0 +1,39 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk.benchmark;
+
+import com.hedera.hashgraph.sdk.PrivateKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the signatures per second of an ECDSA secp256k1 key.
+ * <p>
+ * The message has the size of a typical transaction body. Run it with {@code ./gradlew :sdk:jmh}, and with
+ * {@code -t} to see how signing scales with the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class EcdsaSignBenchmark {
+    private final PrivateKey key = PrivateKey.generateECDSA();
+    private final byte[] message = "0".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+    @Benchmark
+    public byte[] sign() {
+        return key.sign(message);
+    }
+}
@@ -0,0 +1,111 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk.benchmark;
+
+import com.hedera.hashgraph.sdk.AccountBalanceQuery;
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.RetryBudget;
+import com.hedera.hashgraph.sdk.logger.LogLevel;
+import com.hedera.hashgraph.sdk.logger.Logger;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.CryptoGetAccountBalanceResponse;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of {@code executeAsync} against an in-process node, so the numbers are dominated by the
+ * SDK and not by the network.
+ * <p>
+ * The node answers {@code BUSY} {@code busyResponses} times before every successful response, which exercises the
+ * retry path. Run it with {@code ./gradlew :sdk:jmh} and the GC profiler ({@code -prof gc}) to compare the
+ * allocations per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecuteAsyncBenchmark {
+    private static final AccountId NODE_ACCOUNT_ID = new AccountId(0, 0, 3);
+
+    @Param({"0", "10"})
+    public int busyResponses;
+
+    private final AtomicLong calls = new AtomicLong();
+    private Server server;
+    private Client client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        var name = InProcessServerBuilder.generateName();
+
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new CryptoServiceGrpc.CryptoServiceImplBase() {
+                    @Override
+                    public void cryptoGetBalance(Query request, StreamObserver<Response> responseObserver) {
+                        var busy = calls.getAndIncrement() % (busyResponses + 1) != busyResponses;
+
+                        responseObserver.onNext(Response.newBuilder()
+                                .setCryptogetAccountBalance(CryptoGetAccountBalanceResponse.newBuilder()
+                                        .setHeader(ResponseHeader.newBuilder()
+                                                .setNodeTransactionPrecheckCode(
+                                                        busy ? ResponseCodeEnum.BUSY : ResponseCodeEnum.OK))
+                                        .setAccountID(AccountID.newBuilder().setAccountNum(10))
+                                        .setBalance(100))
+                                .build());
+                        responseObserver.onCompleted();
+                    }
+                })
+                .build()
+                .start();
+
+        // Without backoff, retries are sent right away and the benchmark only measures the SDK. Every request is
+        // retried, which must not run out of the retry budget.
+        client = Client.forNetwork(Map.of("in-process:" + name, NODE_ACCOUNT_ID))
+                .setMaxAttempts(busyResponses + 1)
+                .setMinBackoff(Duration.ZERO)
+                .setMaxBackoff(Duration.ZERO)
+                .setRetryBudget(RetryBudget.unlimited())
+                .setLogger(new Logger(LogLevel.SILENT));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.close();
+        server.shutdown();
+        server.awaitTermination();
+    }
+
+    @Benchmark
+    public Object executeAsync() {
+        return new AccountBalanceQuery()
+                .setAccountId(new AccountId(0, 0, 10))
+                .executeAsync(client)
+                .join();
+    }
+}
@@ -189,6 +189,17 @@ public class AddressBookQuery {
      */
     public CompletableFuture<NodeAddressBook> executeAsync(Client client, Duration timeout) {
         var deadline = Deadline.after(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        return client.completeOnCallbackExecutor(executeAsync(client, deadline));
+    }
+
+    /**
+     * Execute the query before a deadline, completing the future on the thread which received the address book.
+     *
+     * @param client   the client object
+     * @param deadline the deadline after which the query is cancelled
+     * @return the node address book
+     */
+    CompletableFuture<NodeAddressBook> executeAsync(Client client, Deadline deadline) {
         CompletableFuture<NodeAddressBook> returnFuture = new CompletableFuture<>();
         executeAsync(client, deadline, returnFuture, 1);
         return returnFuture;
@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import javax.annotation.Nullable;
+
+/**
+ * The last address book a {@link Client} fetched from a mirror node, persisted so the next client can start with the
+ * current nodes and certificate hashes instead of the bundled address book.
+ * <p>
+ * Stored as a small JSON document holding the ledger ID, the time the address book was fetched and the serialized
+ * address book.
+ */
+final class AddressBookSnapshot {
+    private static final String LEDGER_ID = "ledgerId";
+    private static final String FETCHED_AT = "fetchedAt";
+    private static final String ADDRESS_BOOK = "addressBook";
+
+    @Nullable
+    final LedgerId ledgerId;
+
+    final Instant fetchedAt;
+    final NodeAddressBook addressBook;
+
+    /**
+     * Constructor.
+     *
+     * @param ledgerId                  the ledger the address book belongs to
+     * @param fetchedAt                 when the address book was fetched
+     * @param addressBook               the address book
+     */
+    AddressBookSnapshot(@Nullable LedgerId ledgerId, Instant fetchedAt, NodeAddressBook addressBook) {
+        this.ledgerId = ledgerId;
+        this.fetchedAt = fetchedAt;
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Read a snapshot.
+     *
+     * @param path                      the file to read
+     * @return                          the snapshot, or {@code null} when the file does not exist
+     * @throws IOException              when the file cannot be read or is not a valid snapshot
+     */
+    @Nullable
+    static AddressBookSnapshot read(Path path) throws IOException {
+        String contents;
+        try {
+            contents = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+
+        try {
+            var json = JsonParser.parseString(contents).getAsJsonObject();
+            if (!json.has(FETCHED_AT) || !json.has(ADDRESS_BOOK)) {
+                throw new IOException("incomplete address book snapshot " + path);
+            }
+
+            var ledgerId = json.has(LEDGER_ID)
+                    ? LedgerId.fromString(json.get(LEDGER_ID).getAsString())
+                    : null;
+            var fetchedAt = Instant.parse(json.get(FETCHED_AT).getAsString());
+            var addressBook = NodeAddressBook.fromBytes(ByteString.copyFrom(
+                    Base64.getDecoder().decode(json.get(ADDRESS_BOOK).getAsString())));
+
+            return new AddressBookSnapshot(ledgerId, fetchedAt, addressBook);
+        } catch (JsonParseException | IllegalStateException | IllegalArgumentException | DateTimeParseException e) {
+            throw new IOException("invalid address book snapshot " + path, e);
+        }
+    }
+
+    /**
+     * Write this snapshot, replacing the file atomically so a concurrent reader never sees a partial snapshot.
+     *
+     * @param path                      the file to write
+     * @throws IOException              when the file cannot be written
+     */
+    void write(Path path) throws IOException {
+        var json = new JsonObject();
+        if (ledgerId != null) {
+            json.addProperty(LEDGER_ID, ledgerId.toString());
+        }
+        json.addProperty(FETCHED_AT, fetchedAt.toString());
+        json.addProperty(
+                ADDRESS_BOOK,
+                Base64.getEncoder().encodeToString(addressBook.toBytes().toByteArray()));
+
+        var directory = path.toAbsolutePath().getParent();
+        var temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+        try {
+            Files.write(temporary, json.toString().getBytes(StandardCharsets.UTF_8));
+
+            try {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
@@ -5,10 +5,14 @@ import com.google.common.annotations.VisibleForTesting;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.annotation.Nullable;
 
 /**
@@ -28,19 +32,21 @@ abstract class BaseNetwork<
     protected final ExecutorService executor;
 
     /**
-     * Map of node identifiers to nodes. Used to quickly fetch node for identifier.
+     * Guards the configuration and replaces the {@link #snapshot}. A lock rather than a monitor, so virtual threads
+     * waiting for it, or closing channels while holding it, do not pin their carrier thread.
      */
-    protected Map<KeyT, List<BaseNodeT>> network = new ConcurrentHashMap<>();
+    protected final ReentrantLock lock = new ReentrantLock();
 
     /**
-     * The list of all nodes.
+     * The current nodes, healthy nodes and node identifier map. The snapshot is immutable and is replaced as a whole
+     * under the network's lock, so the read path never has to take the lock.
      */
-    protected List<BaseNodeT> nodes = new ArrayList<>();
+    protected volatile Snapshot<KeyT, BaseNodeT> snapshot = Snapshot.empty();
 
     /**
-     * The list of currently healthy nodes.
+     * Is a readmission task currently queued on the executor.
      */
-    protected List<BaseNodeT> healthyNodes = new ArrayList<>();
+    private final AtomicBoolean readmitScheduled = new AtomicBoolean();
 
     /**
      * The current minimum backoff for the nodes in the network. This backoff is used when nodes return a bad
@@ -62,7 +68,23 @@ abstract class BaseNetwork<
     /**
      * Limit for how many times we retry a node which has returned a bad gRPC status
      */
-    protected int maxNodeAttempts = DEFAULT_MAX_NODE_ATTEMPTS;
+    protected volatile int maxNodeAttempts = DEFAULT_MAX_NODE_ATTEMPTS;
+
+    /**
+     * The strategy used to pick healthy nodes
+     */
+    protected volatile NodeSelectionStrategy nodeSelectionStrategy = NodeSelectionStrategy.RANDOM;
+
+    /**
+     * The number of channels requests to each node are spread across
+     */
+    protected int channelsPerNode = Client.DEFAULT_CHANNELS_PER_NODE;
+
+    /**
+     * The executor gRPC runs response handling on, or {@code null} for the client's executor
+     */
+    @Nullable
+    protected Executor transportExecutor = null;
 
     /**
      * Is the network using transport security
@@ -82,7 +104,7 @@ abstract class BaseNetwork<
     /**
      * The instant that readmission will happen after.
      */
-    protected Instant earliestReadmitTime;
+    protected volatile Instant earliestReadmitTime;
 
     /**
      * The name of the network. This corresponds to ledger ID in entity ID checksum calculations
@@ -104,8 +126,13 @@ abstract class BaseNetwork<
      * @return                          the ledger id
      */
     @Nullable
-    synchronized LedgerId getLedgerId() {
-        return ledgerId;
+    LedgerId getLedgerId() {
+        lock.lock();
+        try {
+            return ledgerId;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -115,11 +142,16 @@ abstract class BaseNetwork<
      * @param ledgerId                  the ledger id
      * @return {@code this}
      */
-    synchronized BaseNetworkT setLedgerId(@Nullable LedgerId ledgerId) {
-        this.ledgerId = ledgerId;
+    BaseNetworkT setLedgerId(@Nullable LedgerId ledgerId) {
+        lock.lock();
+        try {
+            this.ledgerId = ledgerId;
 
-        // noinspection unchecked
-        return (BaseNetworkT) this;
+            // noinspection unchecked
+            return (BaseNetworkT) this;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -127,7 +159,7 @@ abstract class BaseNetwork<
      *
      * @return                          maximum node attempts
      */
-    synchronized int getMaxNodeAttempts() {
+    int getMaxNodeAttempts() {
         return maxNodeAttempts;
     }
 
@@ -137,11 +169,43 @@ abstract class BaseNetwork<
      * @param maxNodeAttempts           the max node attempts
      * @return {@code this}
      */
-    synchronized BaseNetworkT setMaxNodeAttempts(int maxNodeAttempts) {
-        this.maxNodeAttempts = maxNodeAttempts;
+    BaseNetworkT setMaxNodeAttempts(int maxNodeAttempts) {
+        lock.lock();
+        try {
+            this.maxNodeAttempts = maxNodeAttempts;
 
-        // noinspection unchecked
-        return (BaseNetworkT) this;
+            // noinspection unchecked
+            return (BaseNetworkT) this;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Extract the node selection strategy.
+     *
+     * @return                          the node selection strategy
+     */
+    NodeSelectionStrategy getNodeSelectionStrategy() {
+        return nodeSelectionStrategy;
+    }
+
+    /**
+     * Set the strategy used to pick healthy nodes.
+     *
+     * @param nodeSelectionStrategy     the node selection strategy
+     * @return {@code this}
+     */
+    BaseNetworkT setNodeSelectionStrategy(NodeSelectionStrategy nodeSelectionStrategy) {
+        lock.lock();
+        try {
+            this.nodeSelectionStrategy = Objects.requireNonNull(nodeSelectionStrategy);
+
+            // noinspection unchecked
+            return (BaseNetworkT) this;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -149,8 +213,13 @@ abstract class BaseNetwork<
      *
      * @return                          the minimum node backoff time
      */
-    synchronized Duration getMinNodeBackoff() {
-        return minNodeBackoff;
+    Duration getMinNodeBackoff() {
+        lock.lock();
+        try {
+            return minNodeBackoff;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -159,15 +228,20 @@ abstract class BaseNetwork<
      * @param minNodeBackoff            the min node backoff
      * @return {@code this}
      */
-    synchronized BaseNetworkT setMinNodeBackoff(Duration minNodeBackoff) {
-        this.minNodeBackoff = minNodeBackoff;
+    BaseNetworkT setMinNodeBackoff(Duration minNodeBackoff) {
+        lock.lock();
+        try {
+            this.minNodeBackoff = minNodeBackoff;
 
-        for (var node : nodes) {
-            node.setMinBackoff(minNodeBackoff);
-        }
+            for (var node : snapshot.nodes) {
+                node.setMinBackoff(minNodeBackoff);
+            }
 
-        // noinspection unchecked
-        return (BaseNetworkT) this;
+            // noinspection unchecked
+            return (BaseNetworkT) this;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -175,8 +249,86 @@ abstract class BaseNetwork<
      *
      * @return                          the maximum node backoff time
      */
-    synchronized Duration getMaxNodeBackoff() {
-        return maxNodeBackoff;
+    Duration getMaxNodeBackoff() {
+        lock.lock();
+        try {
+            return maxNodeBackoff;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Extract the number of channels requests to each node are spread across.
+     *
+     * @return                          the number of channels per node
+     */
+    int getChannelsPerNode() {
+        lock.lock();
+        try {
+            return channelsPerNode;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Extract the executor gRPC runs response handling on.
+     *
+     * @return                          the executor, or {@code null} for the client's executor
+     */
+    @Nullable
+    Executor getTransportExecutor() {
+        lock.lock();
+        try {
+            return transportExecutor;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Set the executor gRPC runs response handling of the channels to every node on.
+     *
+     * @param transportExecutor         the executor, or {@code null} for the client's executor
+     * @return {@code this}
+     */
+    BaseNetworkT setTransportExecutor(@Nullable Executor transportExecutor) {
+        lock.lock();
+        try {
+            this.transportExecutor = transportExecutor;
+
+            for (var node : snapshot.nodes) {
+                node.setTransportExecutor(transportExecutor);
+            }
+
+            // noinspection unchecked
+            return (BaseNetworkT) this;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Set the number of channels, and therefore connections, requests to each node are spread across.
+     *
+     * @param channelsPerNode           the number of channels per node
+     * @return {@code this}
+     */
+    BaseNetworkT setChannelsPerNode(int channelsPerNode) {
+        lock.lock();
+        try {
+            this.channelsPerNode = channelsPerNode;
+
+            for (var node : snapshot.nodes) {
+                node.setChannelPoolSize(channelsPerNode);
+            }
+
+            // noinspection unchecked
+            return (BaseNetworkT) this;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -185,15 +337,20 @@ abstract class BaseNetwork<
      * @param maxNodeBackoff            the max node backoff
      * @return {@code this}
      */
-    synchronized BaseNetworkT setMaxNodeBackoff(Duration maxNodeBackoff) {
-        this.maxNodeBackoff = maxNodeBackoff;
+    BaseNetworkT setMaxNodeBackoff(Duration maxNodeBackoff) {
+        lock.lock();
+        try {
+            this.maxNodeBackoff = maxNodeBackoff;
 
-        for (var node : nodes) {
-            node.setMaxBackoff(maxNodeBackoff);
-        }
+            for (var node : snapshot.nodes) {
+                node.setMaxBackoff(maxNodeBackoff);
+            }
 
-        // noinspection unchecked
-        return (BaseNetworkT) this;
+            // noinspection unchecked
+            return (BaseNetworkT) this;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -201,8 +358,13 @@ abstract class BaseNetwork<
      *
      * @return                          the minimum node readmit time
      */
-    public synchronized Duration getMinNodeReadmitTime() {
-        return minNodeReadmitTime;
+    public Duration getMinNodeReadmitTime() {
+        lock.lock();
+        try {
+            return minNodeReadmitTime;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -210,11 +372,16 @@ abstract class BaseNetwork<
      *
      * @param minNodeReadmitTime        the minimum node readmit time
      */
-    public synchronized void setMinNodeReadmitTime(Duration minNodeReadmitTime) {
-        this.minNodeReadmitTime = minNodeReadmitTime;
+    public void setMinNodeReadmitTime(Duration minNodeReadmitTime) {
+        lock.lock();
+        try {
+            this.minNodeReadmitTime = minNodeReadmitTime;
 
-        for (var node : nodes) {
-            node.readmitTime = Instant.now();
+            for (var node : snapshot.nodes) {
+                node.readmitTime = Instant.now();
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -250,8 +417,13 @@ abstract class BaseNetwork<
      *
      * @return                          the close timeout
      */
-    synchronized Duration getCloseTimeout() {
-        return closeTimeout;
+    Duration getCloseTimeout() {
+        lock.lock();
+        try {
+            return closeTimeout;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -260,45 +432,27 @@ abstract class BaseNetwork<
      * @param closeTimeout              the close timeout
      * @return {@code this}
      */
-    synchronized BaseNetworkT setCloseTimeout(Duration closeTimeout) {
-        this.closeTimeout = closeTimeout;
+    BaseNetworkT setCloseTimeout(Duration closeTimeout) {
+        lock.lock();
+        try {
+            this.closeTimeout = closeTimeout;
 
-        // noinspection unchecked
-        return (BaseNetworkT) this;
+            // noinspection unchecked
+            return (BaseNetworkT) this;
+        } finally {
+            lock.unlock();
+        }
     }
 
     protected abstract BaseNodeT createNodeFromNetworkEntry(Map.Entry<String, KeyT> entry);
 
     /**
-     * Returns a list of index in descending order to remove from the current node list.
-     *
-     * Descending order is important here because {@link BaseNetwork#setNetwork(Map<String, KeyT>)} uses a for-each loop.
+     * Extract the list of all nodes.
      *
-     * @param network - the new network
-     * @return - list of indexes in descending order
+     * @return                          the immutable list of all nodes
      */
-    protected List<Integer> getNodesToRemove(Map<String, KeyT> network) {
-        var nodes = new ArrayList<Integer>(this.nodes.size());
-
-        for (int i = this.nodes.size() - 1; i >= 0; i--) {
-            var node = this.nodes.get(i);
-
-            if (!nodeIsInGivenNetwork(node, network)) {
-                nodes.add(i);
-            }
-        }
-
-        return nodes;
-    }
-
-    private boolean nodeIsInGivenNetwork(BaseNodeT node, Map<String, KeyT> network) {
-        for (var entry : network.entrySet()) {
-            if (node.getKey().equals(entry.getValue())
-                    && node.address.equals(BaseNodeAddress.fromString(entry.getKey()))) {
-                return true;
-            }
-        }
-        return false;
+    List<BaseNodeT> getNodes() {
+        return snapshot.nodes;
     }
 
     /**
@@ -309,87 +463,145 @@ abstract class BaseNetwork<
      *
      * Add any nodes from the new network that don't already exist in the network.
      *
+     * The nodes are matched by their key and parsed address through a hash index, and the new set of nodes is published
+     * at once. Removed nodes stop receiving new requests immediately, while their channels drain and close in the
+     * background, so requests never wait for an address book update.
+     *
      * @param network - The new network
      * @return - {@code this}
      * @throws TimeoutException - when shutting down nodes
      * @throws InterruptedException - when acquiring the lock
      */
-    synchronized BaseNetworkT setNetwork(Map<String, KeyT> network) throws TimeoutException, InterruptedException {
-        var newNodes = new ArrayList<BaseNodeT>();
-        var newHealthyNodes = new ArrayList<BaseNodeT>();
-        var newNetwork = new HashMap<KeyT, List<BaseNodeT>>();
-        var newNodeKeys = new HashSet<KeyT>();
-        var newNodeAddresses = new HashSet<String>();
-
-        // getNodesToRemove() should always return the list in reverse order
-        for (var index : getNodesToRemove(network)) {
-            var stopAt = Instant.now().getEpochSecond() + closeTimeout.getSeconds();
-            var remainingTime = stopAt - Instant.now().getEpochSecond();
-            var node = nodes.get(index);
-
-            // Exit early if we have no time remaining
-            if (remainingTime <= 0) {
-                throw new TimeoutException("Failed to properly shutdown all channels");
-            }
-
-            removeNodeFromNetwork(node);
-            node.close(Duration.ofSeconds(remainingTime));
-            this.nodes.remove(index.intValue());
+    BaseNetworkT setNetwork(Map<String, KeyT> network) throws TimeoutException, InterruptedException {
+        // Parse every address once, outside the lock
+        var wanted = new LinkedHashMap<Map.Entry<KeyT, BaseNodeAddress>, Map.Entry<String, KeyT>>(network.size());
+        for (var entry : network.entrySet()) {
+            wanted.put(Map.entry(entry.getValue(), BaseNodeAddress.fromString(entry.getKey())), entry);
         }
 
-        for (var node : this.nodes) {
-            newNodes.add(node);
-            newNodeKeys.add(node.getKey());
-            newNodeAddresses.add(node.address.toString());
-        }
+        var removedNodes = new ArrayList<BaseNodeT>();
 
-        for (var entry : network.entrySet()) {
-            var node = createNodeFromNetworkEntry(entry);
+        lock.lock();
+        try {
+            var current = snapshot;
+            var newNodes = new ArrayList<BaseNodeT>(wanted.size());
+            var newHealthyNodes = new ArrayList<BaseNodeT>(wanted.size());
+            var healthyNodes = Collections.newSetFromMap(new IdentityHashMap<BaseNodeT, Boolean>());
+            healthyNodes.addAll(current.healthyNodes);
+
+            for (var node : current.nodes) {
+                if (wanted.remove(Map.entry(node.getKey(), node.address)) == null) {
+                    removedNodes.add(node);
+                    continue;
+                }
 
-            if (newNodeKeys.contains(node.getKey())
-                    && newNodeAddresses.contains(node.getAddress().toString())) {
-                continue;
+                newNodes.add(node);
+                if (healthyNodes.contains(node)) {
+                    newHealthyNodes.add(node);
+                }
             }
 
-            newNodes.add(node);
-        }
-
-        for (var node : newNodes) {
-            if (newNetwork.containsKey(node.getKey())) {
-                newNetwork.get(node.getKey()).add(node);
-            } else {
-                var list = new ArrayList<BaseNodeT>();
-                list.add(node);
-                newNetwork.put(node.getKey(), list);
+            for (var entry : wanted.values()) {
+                var node = createNodeFromNetworkEntry(entry)
+                        .setChannelPoolSize(channelsPerNode)
+                        .setTransportExecutor(transportExecutor);
+                newNodes.add(node);
+                newHealthyNodes.add(node);
             }
 
-            newHealthyNodes.add(node);
+            // Atomically publish all the variables
+            snapshot = Snapshot.of(newNodes, newHealthyNodes);
+        } finally {
+            lock.unlock();
         }
 
-        // Atomically set all the variables
-        nodes = newNodes;
-        this.network = newNetwork;
-        healthyNodes = newHealthyNodes;
+        for (var node : removedNodes) {
+            closeInBackground(node);
+        }
 
         // noinspection unchecked
         return (BaseNetworkT) this;
     }
 
-    synchronized void increaseBackoff(BaseNodeT node) {
-        node.increaseBackoff();
-        healthyNodes.remove(node);
+    /**
+     * Close the channels of a node which was removed from the network without blocking the caller. Calls in flight may
+     * complete until the close timeout passed, after which they are cancelled.
+     *
+     * @param node                      the removed node
+     */
+    void closeInBackground(BaseNodeT node) {
+        node.shutdownChannels();
+
+        var deadline = Instant.now().plus(closeTimeout);
+        try {
+            executor.execute(() -> {
+                try {
+                    if (!node.awaitChannelsTermination(deadline)) {
+                        node.shutdownChannelsNow();
+                    }
+                } catch (InterruptedException e) {
+                    node.shutdownChannelsNow();
+                    Thread.currentThread().interrupt();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The client is closing
+            node.shutdownChannelsNow();
+        }
     }
 
-    synchronized void decreaseBackoff(BaseNodeT node) {
-        node.decreaseBackoff();
+    void increaseBackoff(BaseNodeT node) {
+        lock.lock();
+        try {
+            node.increaseBackoff();
+
+            var current = snapshot;
+            if (current.healthyNodes.contains(node)) {
+                var newHealthyNodes = new ArrayList<>(current.healthyNodes);
+                newHealthyNodes.remove(node);
+                snapshot = current.withHealthyNodes(newHealthyNodes);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        onNodeBackoff(node);
     }
 
-    private void removeNodeFromNetwork(BaseNodeT node) {
-        var nodesForKey = this.network.get(node.getKey());
-        nodesForKey.remove(node);
-        if (nodesForKey.isEmpty()) {
-            this.network.remove(node.getKey());
+    /**
+     * Connect the channels of all nodes concurrently and wait for them to become ready, so the first requests do not
+     * pay for the connections. Nodes of which no channel connected within the timeout are put into backoff.
+     *
+     * @param timeout                   how long to wait for the nodes
+     * @return                          a future which completes with the nodes which failed to connect
+     */
+    CompletableFuture<List<BaseNodeT>> warmUpAsync(Duration timeout) {
+        var nodes = snapshot.nodes;
+        var connected = new CompletableFuture<?>[nodes.size()];
+
+        for (var i = 0; i < nodes.size(); i++) {
+            connected[i] = nodes.get(i)
+                    .connectChannelsAsync()
+                    .completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS);
         }
+
+        return CompletableFuture.allOf(connected).thenApply(v -> {
+            var failed = new ArrayList<BaseNodeT>();
+
+            for (var node : nodes) {
+                if (!node.hasConnected()) {
+                    failed.add(node);
+                    increaseBackoff(node);
+                }
+            }
+
+            return failed;
+        });
+    }
+
+    void decreaseBackoff(BaseNodeT node) {
+        // Called for every successful response; only the node's own state changes, so the network lock is not needed
+        node.decreaseBackoff();
     }
 
     private boolean addressIsInNodeList(String addressString, List<BaseNodeT> nodes) {
@@ -403,80 +615,231 @@ abstract class BaseNetwork<
     }
 
     /**
-     * Remove any nodes from the network when they've exceeded the {@link BaseNetwork#maxNodeAttempts} limit
+     * Remove any nodes from the network whose circuit failed {@link BaseNetwork#maxNodeAttempts} times in a row without
+     * being closed by a successful probe or response
      *
      * @throws InterruptedException - when shutting down nodes
      */
     protected void removeDeadNodes() throws InterruptedException {
-        if (maxNodeAttempts > 0) {
-            for (int i = nodes.size() - 1; i >= 0; i--) {
-                var node = Objects.requireNonNull(nodes.get(i));
+        var deadNodes = new ArrayList<BaseNodeT>();
 
-                if (node.getBadGrpcStatusCount() >= maxNodeAttempts) {
-                    node.close(closeTimeout);
-                    removeNodeFromNetwork(node);
-                    nodes.remove(i);
+        lock.lock();
+        try {
+            if (maxNodeAttempts > 0) {
+                var current = snapshot;
+                var newNodes = new ArrayList<BaseNodeT>(current.nodes.size());
+
+                for (var node : current.nodes) {
+                    if (isDead(node)) {
+                        deadNodes.add(node);
+                    } else {
+                        newNodes.add(node);
+                    }
+                }
+
+                if (!deadNodes.isEmpty()) {
+                    var newHealthyNodes = new ArrayList<>(current.healthyNodes);
+                    newHealthyNodes.retainAll(newNodes);
+                    snapshot = Snapshot.of(newNodes, newHealthyNodes);
                 }
             }
+        } finally {
+            lock.unlock();
+        }
+
+        for (var node : deadNodes) {
+            closeInBackground(node);
         }
     }
 
+    private boolean isDead(BaseNodeT node) {
+        return node.getCircuitState() != BaseNode.CircuitState.CLOSED
+                && node.getConsecutiveFailures() >= maxNodeAttempts;
+    }
+
+    private boolean hasDeadNodes() {
+        if (maxNodeAttempts > 0) {
+            for (var node : snapshot.nodes) {
+                if (isDead(node)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Readmits nodes from the `nodes` list into the `healthyNodes` list when the time is passed the
      * {@code earliestReadmitTime}. While readmitting nodes the `earliestReadmitTime` will be updated to
      * a new value. This value is either the value of the node with the smallest readmission time from now,
      * or `minNodeReadmitTime` or `maxNodeReadmitTime`.
      */
-    synchronized void readmitNodes() {
-        var now = Instant.now();
+    void readmitNodes() {
+        var readmitted = new ArrayList<BaseNodeT>();
 
-        if (now.toEpochMilli() > earliestReadmitTime.toEpochMilli()) {
-            var nextEarliestReadmitTime = now.plus(maxNodeReadmitTime);
+        lock.lock();
+        try {
+            var now = Instant.now();
+
+            if (now.toEpochMilli() > earliestReadmitTime.toEpochMilli()) {
+                var current = snapshot;
+                var nextEarliestReadmitTime = now.plus(maxNodeReadmitTime);
 
-            for (var node : this.nodes) {
-                if (node.readmitTime.isAfter(now) && node.readmitTime.isBefore(nextEarliestReadmitTime)) {
-                    nextEarliestReadmitTime = node.readmitTime;
+                for (var node : current.nodes) {
+                    if (node.readmitTime.isAfter(now) && node.readmitTime.isBefore(nextEarliestReadmitTime)) {
+                        nextEarliestReadmitTime = node.readmitTime;
+                    }
                 }
-            }
 
-            this.earliestReadmitTime = nextEarliestReadmitTime;
-            if (this.earliestReadmitTime.isBefore(now.plus(minNodeReadmitTime))) {
-                this.earliestReadmitTime = now.plus(minNodeReadmitTime);
-            }
+                this.earliestReadmitTime = nextEarliestReadmitTime;
+                if (this.earliestReadmitTime.isBefore(now.plus(minNodeReadmitTime))) {
+                    this.earliestReadmitTime = now.plus(minNodeReadmitTime);
+                }
+
+                var healthy = Collections.newSetFromMap(new IdentityHashMap<BaseNodeT, Boolean>());
+                healthy.addAll(current.healthyNodes);
+
+                var newHealthyNodes = new ArrayList<>(current.healthyNodes);
+                for (var node : current.nodes) {
+                    // If `healthyNodes` doesn't contain the node, check the `readmitTime` on the node
+                    if (healthy.contains(node) || !node.readmitTime.isBefore(now)) {
+                        continue;
+                    }
 
-            outer:
-            for (var i = 0; i < this.nodes.size(); i++) {
-                // Check if `healthyNodes` already contains this node
-                for (var j = 0; j < this.healthyNodes.size(); j++) {
-                    if (this.nodes.get(i) == this.healthyNodes.get(j)) {
-                        continue outer;
+                    // A node with an open circuit is only readmitted once a probe succeeded
+                    if (node.getCircuitState() != BaseNode.CircuitState.CLOSED && startProbe(node)) {
+                        continue;
                     }
+
+                    node.readmit();
+                    newHealthyNodes.add(node);
+                    readmitted.add(node);
                 }
 
-                // If `healthyNodes` doesn't contain the node, check the `readmitTime` on the node
-                if (this.nodes.get(i).readmitTime.isBefore(now)) {
-                    this.healthyNodes.add(this.nodes.get(i));
+                if (newHealthyNodes.size() != current.healthyNodes.size()) {
+                    snapshot = current.withHealthyNodes(newHealthyNodes);
                 }
             }
+        } finally {
+            lock.unlock();
+        }
+
+        for (var node : readmitted) {
+            onNodeReadmitted(node);
         }
     }
 
     /**
-     * Get a random healthy node.
+     * Readmit a single node into the healthy nodes after a successful probe closed its circuit.
+     *
+     * @param node                      the node
+     */
+    void readmitNode(BaseNodeT node) {
+        lock.lock();
+        try {
+            var current = snapshot;
+            // The node may have failed again since its circuit was closed
+            if (node.getCircuitState() != BaseNode.CircuitState.CLOSED
+                    || !containsNode(current.nodes, node)
+                    || containsNode(current.healthyNodes, node)) {
+                return;
+            }
+
+            var newHealthyNodes = new ArrayList<>(current.healthyNodes);
+            newHealthyNodes.add(node);
+            snapshot = current.withHealthyNodes(newHealthyNodes);
+        } finally {
+            lock.unlock();
+        }
+
+        onNodeReadmitted(node);
+    }
+
+    /**
+     * Is this exact node (not just an equal one) part of the list.
+     *
+     * @param nodes                     the nodes
+     * @param node                      the node
+     * @return                          whether the list contains the node
+     */
+    static <NodeT> boolean containsNode(List<NodeT> nodes, NodeT node) {
+        for (var candidate : nodes) {
+            if (candidate == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Start probing a node whose backoff has passed instead of readmitting it right away. The probe is responsible
+     * for readmitting the node once it succeeds.
+     *
+     * @param node                      the node
+     * @return                          whether the node is being probed; when {@code false} it is readmitted directly
+     */
+    protected boolean startProbe(BaseNodeT node) {
+        return false;
+    }
+
+    /**
+     * Called after a node's backoff was increased and it was removed from the healthy nodes. Called without holding
+     * the network's lock.
+     *
+     * @param node                      the node
+     */
+    protected void onNodeBackoff(BaseNodeT node) {}
+
+    /**
+     * Called when a node is readmitted to the healthy nodes. Called without holding the network's lock.
+     *
+     * @param node                      the node
+     */
+    protected void onNodeReadmitted(BaseNodeT node) {}
+
+    /**
+     * Queue a readmission on the executor once {@code earliestReadmitTime} has passed, so that callers fetching
+     * nodes never block on the network's lock. At most one readmission is queued at a time.
+     */
+    private void scheduleReadmitNodes() {
+        if (System.currentTimeMillis() <= earliestReadmitTime.toEpochMilli()
+                || !readmitScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    readmitNodes();
+                } finally {
+                    readmitScheduled.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            readmitScheduled.set(false);
+        }
+    }
+
+    /**
+     * Get a healthy node chosen by the {@link BaseNetwork#nodeSelectionStrategy}.
      *
      * @return                          the node
      */
-    synchronized BaseNodeT getRandomNode() {
-        // Attempt to readmit nodes each time a node is fetched.
-        // Note: Readmitting nodes will only happen periodically so calling it each time should not harm
-        // performance.
-        readmitNodes();
+    BaseNodeT getRandomNode() {
+        // Readmission runs in the background; only readmit inline when there is nothing left to pick from.
+        scheduleReadmitNodes();
+
+        var healthyNodes = snapshot.healthyNodes;
+        if (healthyNodes.isEmpty()) {
+            readmitNodes();
+            healthyNodes = snapshot.healthyNodes;
+        }
 
         if (healthyNodes.isEmpty()) {
             throw new IllegalStateException("No healthy node was found");
         }
 
-        return healthyNodes.get(random.nextInt(healthyNodes.size()));
+        return nodeSelectionStrategy.select(healthyNodes, random);
     }
 
     /**
@@ -485,13 +848,10 @@ abstract class BaseNetwork<
      * @param key                       the desired key
      * @return                          the list of node proxies
      */
-    synchronized List<BaseNodeT> getNodeProxies(KeyT key) {
-        // Attempt to readmit nodes each time a node is fetched.
-        // Note: Readmitting nodes will only happen periodically so calling it each time should not harm
-        // performance.
-        readmitNodes();
+    List<BaseNodeT> getNodeProxies(KeyT key) {
+        scheduleReadmitNodes();
 
-        return network.get(key);
+        return snapshot.network.get(key);
     }
 
     /**
@@ -504,11 +864,13 @@ abstract class BaseNetwork<
      * @return                          List of nodes to use
      * @throws InterruptedException     when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
      */
-    protected synchronized List<BaseNodeT> getNumberOfMostHealthyNodes(int count) throws InterruptedException {
-        readmitNodes();
-        removeDeadNodes();
+    protected List<BaseNodeT> getNumberOfMostHealthyNodes(int count) throws InterruptedException {
+        if (hasDeadNodes()) {
+            removeDeadNodes();
+        }
 
-        var returnNodes = new HashMap<KeyT, BaseNodeT>(count);
+        // Keep the nodes in the order the selection strategy picked them
+        var returnNodes = new LinkedHashMap<KeyT, BaseNodeT>(count);
 
         for (var i = 0; i < count; i++) {
             var node = getRandomNode();
@@ -520,50 +882,114 @@ abstract class BaseNetwork<
 
         var returnList = new ArrayList<BaseNodeT>();
         returnList.addAll(returnNodes.values());
+
         return returnList;
     }
 
-    synchronized void beginClose() {
-        for (var node : nodes) {
-            if (node.channel != null) {
-                node.channel = node.channel.shutdown();
+    void beginClose() {
+        lock.lock();
+        try {
+            for (var node : snapshot.nodes) {
+                node.shutdownChannels();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     // returns null if successful, or Throwable if error occurred
     @Nullable
-    synchronized Throwable awaitClose(Instant deadline, @Nullable Throwable previousError) {
+    Throwable awaitClose(Instant deadline, @Nullable Throwable previousError) {
+        lock.lock();
         try {
-            if (previousError != null) {
-                throw previousError;
-            }
+            try {
+                if (previousError != null) {
+                    throw previousError;
+                }
 
-            for (var node : nodes) {
-                if (node.channel != null) {
-                    var timeoutMillis =
-                            Duration.between(Instant.now(), deadline).toMillis();
-                    if (timeoutMillis <= 0 || !node.channel.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                for (var node : snapshot.nodes) {
+                    if (!node.awaitChannelsTermination(deadline)) {
                         throw new TimeoutException("Failed to properly shutdown all channels");
-                    } else {
-                        node.channel = null;
                     }
                 }
+
+                return null;
+            } catch (Throwable error) {
+                for (var node : snapshot.nodes) {
+                    node.shutdownChannelsNow();
+                }
+                hasShutDownNow = true;
+
+                return error;
+            } finally {
+                snapshot = Snapshot.empty();
             }
+        } finally {
+            lock.unlock();
+        }
+    }
 
-            return null;
-        } catch (Throwable error) {
+    /**
+     * An immutable view of the nodes in the network.
+     *
+     * @param <KeyT> - The identifying type for the network.
+     * @param <NodeT> - The specific node type for the network.
+     */
+    static final class Snapshot<KeyT, NodeT extends BaseNode<NodeT, KeyT>> {
+        /**
+         * The list of all nodes.
+         */
+        final List<NodeT> nodes;
+
+        /**
+         * The list of currently healthy nodes.
+         */
+        final List<NodeT> healthyNodes;
+
+        /**
+         * Map of node identifiers to nodes. Used to quickly fetch node for identifier.
+         */
+        final Map<KeyT, List<NodeT>> network;
+
+        private Snapshot(List<NodeT> nodes, List<NodeT> healthyNodes, Map<KeyT, List<NodeT>> network) {
+            this.nodes = nodes;
+            this.healthyNodes = healthyNodes;
+            this.network = network;
+        }
+
+        static <KeyT, NodeT extends BaseNode<NodeT, KeyT>> Snapshot<KeyT, NodeT> empty() {
+            return new Snapshot<KeyT, NodeT>(List.of(), List.of(), Map.of());
+        }
+
+        /**
+         * Create a snapshot, grouping the nodes by key in their list order.
+         *
+         * @param nodes                 all nodes
+         * @param healthyNodes          the healthy nodes
+         * @return                      the new snapshot
+         */
+        static <KeyT, NodeT extends BaseNode<NodeT, KeyT>> Snapshot<KeyT, NodeT> of(
+                List<NodeT> nodes, List<NodeT> healthyNodes) {
+            var network = new HashMap<KeyT, List<NodeT>>();
             for (var node : nodes) {
-                if (node.channel != null) {
-                    node.channel.shutdownNow();
-                }
+                network.computeIfAbsent(node.getKey(), key -> new ArrayList<>()).add(node);
             }
-            hasShutDownNow = true;
+            network.replaceAll((key, proxies) -> Collections.unmodifiableList(proxies));
 
-            return error;
-        } finally {
-            nodes.clear();
-            network.clear();
+            return new Snapshot<>(
+                    Collections.unmodifiableList(new ArrayList<>(nodes)),
+                    Collections.unmodifiableList(new ArrayList<>(healthyNodes)),
+                    Collections.unmodifiableMap(network));
+        }
+
+        /**
+         * Create a copy of this snapshot with a different set of healthy nodes.
+         *
+         * @param healthyNodes          the healthy nodes
+         * @return                      the new snapshot
+         */
+        Snapshot<KeyT, NodeT> withHealthyNodes(List<NodeT> healthyNodes) {
+            return new Snapshot<>(nodes, Collections.unmodifiableList(new ArrayList<>(healthyNodes)), network);
         }
     }
 }
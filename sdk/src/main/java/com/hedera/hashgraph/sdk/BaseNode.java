@@ -7,20 +7,29 @@ import io.grpc.ChannelCredentials;
 import io.grpc.ClientCall;
 import io.grpc.ClientInterceptor;
 import io.grpc.ConnectivityState;
+import io.grpc.Deadline;
 import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
 import io.grpc.Grpc;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
+import io.grpc.Status;
 import io.grpc.TlsChannelCredentials;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.annotation.Nullable;
 
 /**
@@ -30,10 +39,34 @@ import javax.annotation.Nullable;
  * @param <KeyT>                        the key t type
  */
 abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
-    private static final int GET_STATE_INTERVAL_MILLIS = 50;
     private static final int GET_STATE_TIMEOUT_MILLIS = 10000;
-    private static final int GET_STATE_MAX_ATTEMPTS = GET_STATE_TIMEOUT_MILLIS / GET_STATE_INTERVAL_MILLIS;
-    private boolean hasConnected = false;
+
+    /**
+     * Weight given to the newest sample in the latency and busy rate moving averages
+     */
+    private static final double EWMA_WEIGHT = 0.2;
+
+    /**
+     * How much a busy rate of 100% inflates the selection score of a node
+     */
+    private static final double BUSY_PENALTY = 4.0;
+
+    /**
+     * Interceptor shared by all channels, adding the user agent to every call
+     */
+    private static final MetadataInterceptor METADATA_INTERCEPTOR = new MetadataInterceptor();
+
+    /**
+     * Guards the backoff, circuit and channel state. A lock rather than a monitor, so virtual threads waiting for it do
+     * not pin their carrier thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Future shared by everyone waiting for one of the channels to become ready
+     */
+    @Nullable
+    private CompletableFuture<Boolean> connectionFailedFuture = null;
 
     protected final ExecutorService executor;
 
@@ -67,8 +100,52 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
      */
     protected long badGrpcStatusCount;
 
+    /**
+     * State of the circuit breaker of this node
+     */
+    protected volatile CircuitState circuitState = CircuitState.CLOSED;
+
+    /**
+     * Number of bad gRPC statuses and failed probes since a probe or a request sent while probing last succeeded
+     */
+    protected long consecutiveFailures;
+
+    /**
+     * Exponentially weighted moving average of the round-trip latency of requests to this node, in nanoseconds
+     */
+    protected volatile double averageLatencyNanos;
+
+    /**
+     * Exponentially weighted moving average of the fraction of responses from this node which were {@code BUSY}
+     */
+    protected volatile double busyRate;
+
+    /**
+     * Exponentially weighted moving average of the absolute deviation of the round-trip latency, in nanoseconds
+     */
+    protected volatile double latencyDeviationNanos;
+
+    /**
+     * Number of channels, and therefore HTTP/2 connections, requests to this node are spread across
+     */
+    protected volatile int channelPoolSize = Client.DEFAULT_CHANNELS_PER_NODE;
+
+    /**
+     * The executor gRPC runs response handling of the channels on, or {@code null} for the client's executor
+     */
     @Nullable
-    protected ManagedChannel channel = null;
+    protected volatile Executor transportExecutor = null;
+
+    /**
+     * The channels to this node, created with the first request. Replaced as a whole when the pool is resized.
+     */
+    @Nullable
+    protected volatile PooledChannel[] channels = null;
+
+    /**
+     * Where the search for the least loaded channel starts, so channels with the same load take turns
+     */
+    private final AtomicInteger nextChannel = new AtomicInteger();
 
     /**
      * Constructor.
@@ -100,6 +177,14 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
         this.readmitTime = node.readmitTime;
         this.currentBackoff = node.currentBackoff;
         this.badGrpcStatusCount = node.badGrpcStatusCount;
+        this.consecutiveFailures = node.consecutiveFailures;
+        // A probe of the copied node does not report to this one, so it has to be probed again
+        this.circuitState = node.circuitState == CircuitState.HALF_OPEN ? CircuitState.OPEN : node.circuitState;
+        this.averageLatencyNanos = node.averageLatencyNanos;
+        this.busyRate = node.busyRate;
+        this.latencyDeviationNanos = node.latencyDeviationNanos;
+        this.channelPoolSize = node.channelPoolSize;
+        this.transportExecutor = node.transportExecutor;
     }
 
     /**
@@ -132,8 +217,13 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
      *
      * @return                          the minimum backoff time
      */
-    synchronized Duration getMinBackoff() {
-        return minBackoff;
+    Duration getMinBackoff() {
+        lock.lock();
+        try {
+            return minBackoff;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -142,14 +232,19 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
      * @param minBackoff                the minimum backoff time
      * @return {@code this}
      */
-    synchronized N setMinBackoff(Duration minBackoff) {
-        if (currentBackoff == this.minBackoff) {
-            currentBackoff = minBackoff;
-        }
-        this.minBackoff = minBackoff;
+    N setMinBackoff(Duration minBackoff) {
+        lock.lock();
+        try {
+            if (currentBackoff == this.minBackoff) {
+                currentBackoff = minBackoff;
+            }
+            this.minBackoff = minBackoff;
 
-        // noinspection unchecked
-        return (N) this;
+            // noinspection unchecked
+            return (N) this;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -158,7 +253,12 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
      * @return                          the maximum backoff time
      */
     Duration getMaxBackoff() {
-        return maxBackoff;
+        lock.lock();
+        try {
+            return maxBackoff;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -168,10 +268,15 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
      * @return {@code this}
      */
     N setMaxBackoff(Duration maxBackoff) {
-        this.maxBackoff = maxBackoff;
+        lock.lock();
+        try {
+            this.maxBackoff = maxBackoff;
 
-        // noinspection unchecked
-        return (N) this;
+            // noinspection unchecked
+            return (N) this;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -183,6 +288,89 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
         return badGrpcStatusCount;
     }
 
+    /**
+     * Extract the state of the circuit breaker.
+     *
+     * @return                          the circuit state
+     */
+    CircuitState getCircuitState() {
+        return circuitState;
+    }
+
+    /**
+     * Get the number of bad gRPC statuses and failed probes since a probe or a request sent while probing last
+     * succeeded
+     *
+     * @return                          the count of consecutive failures
+     */
+    long getConsecutiveFailures() {
+        lock.lock();
+        try {
+            return consecutiveFailures;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Move an open circuit whose backoff has passed to half-open, so exactly one probe can be sent to the node.
+     *
+     * @return                          whether the caller should probe the node
+     */
+    boolean tryHalfOpen() {
+        lock.lock();
+        try {
+            if (circuitState != CircuitState.OPEN || readmitTime.isAfter(Instant.now())) {
+                return false;
+            }
+
+            circuitState = CircuitState.HALF_OPEN;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Close the circuit, the node may receive requests again.
+     */
+    void closeCircuit() {
+        lock.lock();
+        try {
+            circuitState = CircuitState.CLOSED;
+            consecutiveFailures = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Close the circuit without a probe, because the backoff passed. The failures are kept, so a node which keeps
+     * failing still reaches the maximum number of node attempts.
+     */
+    void readmit() {
+        lock.lock();
+        try {
+            circuitState = CircuitState.CLOSED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Close the circuit if it is half-open, because the probe or a request sent while it was half-open succeeded.
+     */
+    void closeHalfOpenCircuit() {
+        lock.lock();
+        try {
+            if (circuitState == CircuitState.HALF_OPEN) {
+                closeCircuit();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * Extract the unhealthy backoff time remaining.
      *
@@ -195,22 +383,30 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
     /**
      * Determines if this is node is healthy.
      * Healthy means the node has either not received any bad gRPC statuses, or if it has received bad gRPC status then
-     * the node backed off for a period of time.
+     * the node backed off for a period of time. A node which is being probed is not healthy until the probe succeeds.
      *
      * @return                          is the node healthy
      */
     boolean isHealthy() {
-        return readmitTime.toEpochMilli() < Instant.now().toEpochMilli();
+        return circuitState != CircuitState.HALF_OPEN
+                && readmitTime.toEpochMilli() < Instant.now().toEpochMilli();
     }
 
     /**
-     * Used when a node has received a bad gRPC status
+     * Used when a node has received a bad gRPC status or failed a probe. Opens the circuit until the backoff passed.
      */
-    synchronized void increaseBackoff() {
-        this.badGrpcStatusCount++;
-        this.readmitTime = Instant.now().plus(this.currentBackoff);
-        this.currentBackoff = currentBackoff.multipliedBy(2);
-        this.currentBackoff = currentBackoff.compareTo(maxBackoff) < 0 ? currentBackoff : maxBackoff;
+    void increaseBackoff() {
+        lock.lock();
+        try {
+            this.badGrpcStatusCount++;
+            this.consecutiveFailures++;
+            this.circuitState = CircuitState.OPEN;
+            this.readmitTime = Instant.now().plus(this.currentBackoff);
+            this.currentBackoff = currentBackoff.multipliedBy(2);
+            this.currentBackoff = currentBackoff.compareTo(maxBackoff) < 0 ? currentBackoff : maxBackoff;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -219,9 +415,77 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
      * this is to allow a node which has been performing poorly (receiving several bad gRPC status) to become used again
      * once it stops receiving bad gRPC statuses.
      */
-    synchronized void decreaseBackoff() {
-        this.currentBackoff = currentBackoff.dividedBy(2);
-        this.currentBackoff = currentBackoff.compareTo(minBackoff) > 0 ? currentBackoff : minBackoff;
+    void decreaseBackoff() {
+        lock.lock();
+        try {
+            this.currentBackoff = currentBackoff.dividedBy(2);
+            this.currentBackoff = currentBackoff.compareTo(minBackoff) > 0 ? currentBackoff : minBackoff;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record a response received from this node.
+     *
+     * @param latencyNanos              the round-trip latency of the request in nanoseconds
+     * @param busy                      was the response {@code BUSY}
+     */
+    void recordResponse(long latencyNanos, boolean busy) {
+        lock.lock();
+        try {
+            if (averageLatencyNanos == 0) {
+                averageLatencyNanos = latencyNanos;
+                latencyDeviationNanos = latencyNanos / 2.0;
+            } else {
+                latencyDeviationNanos +=
+                        EWMA_WEIGHT * (Math.abs(latencyNanos - averageLatencyNanos) - latencyDeviationNanos);
+                averageLatencyNanos += EWMA_WEIGHT * (latencyNanos - averageLatencyNanos);
+            }
+
+            busyRate += EWMA_WEIGHT * ((busy ? 1.0 : 0.0) - busyRate);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Extract the moving average of the round-trip latency.
+     *
+     * @return                          the average latency, or zero when no response has been recorded
+     */
+    Duration getAverageLatency() {
+        return Duration.ofNanos((long) averageLatencyNanos);
+    }
+
+    /**
+     * Estimate a high percentile of the round-trip latency as {@code average + deviations * deviation}, the same
+     * estimator TCP uses for its retransmission timeout. Four deviations cover roughly the 99th percentile.
+     *
+     * @param deviations                how many mean deviations to add to the average
+     * @return                          the latency estimate, or zero when no response has been recorded
+     */
+    Duration getLatencyEstimate(double deviations) {
+        return Duration.ofNanos((long) (averageLatencyNanos + deviations * latencyDeviationNanos));
+    }
+
+    /**
+     * Extract the moving average of the fraction of {@code BUSY} responses.
+     *
+     * @return                          the busy rate between 0 and 1
+     */
+    double getBusyRate() {
+        return busyRate;
+    }
+
+    /**
+     * The score used by latency aware {@link NodeSelectionStrategy} implementations; lower is better.
+     * Nodes which have not answered yet score zero so they are tried early.
+     *
+     * @return                          the selection score
+     */
+    double getSelectionScore() {
+        return averageLatencyNanos * (1.0 + BUSY_PENALTY * busyRate);
     }
 
     /**
@@ -243,15 +507,142 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
     }
 
     /**
-     * Get the gRPC channel for this node
+     * Extract the number of channels requests to this node are spread across.
+     *
+     * @return                          the size of the channel pool
+     */
+    int getChannelPoolSize() {
+        return channelPoolSize;
+    }
+
+    /**
+     * Set the number of channels requests to this node are spread across. When the channels already exist, new ones
+     * are added or the surplus ones are shut down after their calls completed.
+     *
+     * @param channelPoolSize           the size of the channel pool
+     * @return {@code this}
+     */
+    N setChannelPoolSize(int channelPoolSize) {
+        lock.lock();
+        try {
+            this.channelPoolSize = channelPoolSize;
+
+            var pool = channels;
+            if (pool != null && pool.length != channelPoolSize) {
+                var resized = Arrays.copyOf(pool, channelPoolSize);
+
+                for (var i = pool.length; i < channelPoolSize; i++) {
+                    resized[i] = createChannel();
+                }
+
+                for (var i = channelPoolSize; i < pool.length; i++) {
+                    pool[i].channel.shutdown();
+                }
+
+                channels = resized;
+            }
+
+            // noinspection unchecked
+            return (N) this;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the gRPC channel for the next call to this node.
+     * <p>
+     * With more than one channel in the pool this is the ready channel with the fewest calls in flight, so no single
+     * HTTP/2 connection runs into the server's limit of concurrent streams. Channels which are not ready are only
+     * used when none is.
      *
      * @return                          the channel
      */
-    synchronized ManagedChannel getChannel() {
-        if (channel != null) {
-            return channel;
+    ManagedChannel getChannel() {
+        // Every attempt fetches a channel, so only take the lock to create them
+        var pool = channels;
+        if (pool == null) {
+            pool = getChannels();
+        }
+
+        if (pool.length == 1) {
+            return pool[0].channel;
+        }
+
+        var start = Math.floorMod(nextChannel.getAndIncrement(), pool.length);
+        var best = pool[start];
+
+        for (var i = 1; i < pool.length; i++) {
+            var candidate = pool[(start + i) % pool.length];
+
+            if (candidate.isBetterThan(best)) {
+                best = candidate;
+            }
         }
 
+        return best.channel;
+    }
+
+    /**
+     * Set the executor gRPC runs response handling on. The current channels are shut down once their calls completed
+     * and replaced by channels using the new executor.
+     *
+     * @param transportExecutor         the executor, or {@code null} for the client's executor
+     * @return {@code this}
+     */
+    N setTransportExecutor(@Nullable Executor transportExecutor) {
+        lock.lock();
+        try {
+            if (this.transportExecutor != transportExecutor) {
+                this.transportExecutor = transportExecutor;
+
+                var pool = channels;
+                if (pool != null) {
+                    channels = null;
+
+                    for (var pooled : pool) {
+                        pooled.channel.shutdown();
+                    }
+                }
+            }
+
+            // noinspection unchecked
+            return (N) this;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the channel pool, creating it when this node has no channels yet.
+     *
+     * @return                          the channels
+     */
+    private PooledChannel[] getChannels() {
+        lock.lock();
+        try {
+            if (channels == null) {
+                var pool = new PooledChannel[channelPoolSize];
+
+                for (var i = 0; i < pool.length; i++) {
+                    pool[i] = createChannel();
+                }
+
+                channels = pool;
+            }
+
+            return channels;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Build a new channel to this node.
+     *
+     * @return                          the channel
+     */
+    private PooledChannel createChannel() {
         ManagedChannelBuilder<?> channelBuilder;
 
         if (address.isInProcess()) {
@@ -267,15 +658,15 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
             channelBuilder = ManagedChannelBuilder.forTarget(address.toString()).usePlaintext();
         }
 
-        channel = channelBuilder
+        var pooled = new PooledChannel(channelBuilder
                 .keepAliveTimeout(10, TimeUnit.SECONDS)
                 .keepAliveWithoutCalls(true)
-                .intercept(new MetadataInterceptor())
+                .intercept(METADATA_INTERCEPTOR)
                 .enableRetry()
-                .executor(executor)
-                .build();
+                .executor(transportExecutor != null ? transportExecutor : executor));
 
-        return channel;
+        pooled.watchState();
+        return pooled;
     }
 
     /**
@@ -284,62 +675,342 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
      * @return                          did we fail to connect
      */
     boolean channelFailedToConnect() {
-        return channelFailedToConnect(Instant.MAX);
+        return channelFailedToConnect(null);
+    }
+
+    /**
+     * Has any channel of this node been READY at least once? Once one has, the connection is not checked anymore.
+     *
+     * @return                          has a channel connected
+     */
+    boolean hasConnected() {
+        var pool = channels;
+        if (pool == null) {
+            return false;
+        }
+
+        for (var pooled : pool) {
+            if (pooled.hasConnected) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
-    boolean channelFailedToConnect(Instant timeoutTime) {
-        if (hasConnected) {
+    /**
+     * Did we fail to connect before the given deadline?
+     * <p>
+     * Blocks on the same readiness future used by {@link #channelFailedToConnectAsync()}, so the calling thread is
+     * woken up as soon as a channel changes state instead of polling it.
+     *
+     * @param deadline                  the deadline after which we stop waiting, or {@code null} to wait indefinitely
+     * @return                          did we fail to connect
+     */
+    boolean channelFailedToConnect(@Nullable Deadline deadline) {
+        if (hasConnected()) {
             return false;
         }
-        hasConnected = (getChannel().getState(true) == ConnectivityState.READY);
+
+        var connectionFailed = channelFailedToConnectAsync();
         try {
-            for (int i = 0; i < GET_STATE_MAX_ATTEMPTS && !hasConnected; i++) {
-                Duration currentTimeout = Duration.between(Instant.now(), timeoutTime);
-                if (currentTimeout.isNegative() || currentTimeout.isZero()) {
-                    return false;
-                }
-                TimeUnit.MILLISECONDS.sleep(GET_STATE_INTERVAL_MILLIS);
-                hasConnected = (getChannel().getState(true) == ConnectivityState.READY);
+            if (deadline == null) {
+                return connectionFailed.get();
+            }
+
+            if (deadline.isExpired()) {
+                return false;
             }
+
+            return connectionFailed.get(deadline.timeRemaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            return true;
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
-        return !hasConnected;
     }
 
-    private CompletableFuture<Boolean> channelFailedToConnectAsync(int i, ConnectivityState state) {
-        hasConnected = (state == ConnectivityState.READY);
-        if (i >= GET_STATE_MAX_ATTEMPTS || hasConnected) {
-            return CompletableFuture.completedFuture(!hasConnected);
+    /**
+     * Asynchronously determine if the channels failed to connect.
+     * <p>
+     * Every channel of the pool is connected independently. The returned future completes with {@code false} the
+     * moment one of them becomes READY, and with {@code true} when all of them are shut down or none becomes ready
+     * within {@code GET_STATE_TIMEOUT_MILLIS}. Concurrent callers share the same future.
+     *
+     * @return                          did we fail to connect
+     */
+    CompletableFuture<Boolean> channelFailedToConnectAsync() {
+        lock.lock();
+        try {
+            if (hasConnected()) {
+                return CompletableFuture.completedFuture(false);
+            }
+
+            if (connectionFailedFuture == null || connectionFailedFuture.isDone()) {
+                var future = new CompletableFuture<Boolean>()
+                        .completeOnTimeout(true, GET_STATE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                var pool = getChannels();
+                var remaining = new AtomicInteger(pool.length);
+                connectionFailedFuture = future;
+
+                for (var pooled : pool) {
+                    awaitChannelReady(pooled, future, remaining);
+                }
+            }
+
+            return connectionFailedFuture;
+        } finally {
+            lock.unlock();
         }
-        return Delayer.delayFor(GET_STATE_INTERVAL_MILLIS, executor).thenCompose(ignored -> {
-            return channelFailedToConnectAsync(i + 1, getChannel().getState(true));
-        });
     }
 
     /**
-     * Asynchronously determine if the channel failed to connect.
+     * Request a connection and re-arm a state change callback until the channel is either READY or shut down.
      *
-     * @return                          did we fail to connect
+     * @param pooled                    the channel to watch
+     * @param connectionFailed          the future to complete
+     * @param remaining                 the number of channels which have not failed yet
      */
-    CompletableFuture<Boolean> channelFailedToConnectAsync() {
-        if (hasConnected) {
-            return CompletableFuture.completedFuture(false);
+    private void awaitChannelReady(
+            PooledChannel pooled, CompletableFuture<Boolean> connectionFailed, AtomicInteger remaining) {
+        if (connectionFailed.isDone()) {
+            return;
+        }
+
+        var state = pooled.channel.getState(true);
+        switch (state) {
+            case READY -> {
+                pooled.hasConnected = true;
+                connectionFailed.complete(false);
+            }
+            case SHUTDOWN -> {
+                if (remaining.decrementAndGet() == 0) {
+                    connectionFailed.complete(true);
+                }
+            }
+            // gRPC keeps reconnecting a channel in TRANSIENT_FAILURE, so wait for it like for a connecting one
+            default ->
+                pooled.channel.notifyWhenStateChanged(
+                        state, () -> awaitChannelReady(pooled, connectionFailed, remaining));
+        }
+    }
+
+    /**
+     * Connect every channel of this node, including the TLS handshake and certificate verification.
+     * <p>
+     * Unlike {@link #channelFailedToConnectAsync()}, which is satisfied by the first ready channel, this waits for
+     * each channel to either become READY or fail, so no request has to pay for a connection afterward.
+     *
+     * @return                          a future which completes once every channel connected or failed
+     */
+    CompletableFuture<Void> connectChannelsAsync() {
+        var pool = getChannels();
+        var connected = new CompletableFuture<?>[pool.length];
+
+        for (var i = 0; i < pool.length; i++) {
+            var future = new CompletableFuture<Boolean>();
+            awaitChannelReady(pool[i], future, new AtomicInteger(1));
+            connected[i] = future;
+        }
+
+        return CompletableFuture.allOf(connected);
+    }
+
+    /**
+     * Start shutting down the channels of this node. Calls in flight are allowed to complete.
+     */
+    void shutdownChannels() {
+        lock.lock();
+        try {
+            var pool = channels;
+            if (pool != null) {
+                for (var pooled : pool) {
+                    pooled.channel.shutdown();
+                }
+            }
+        } finally {
+            lock.unlock();
         }
-        return channelFailedToConnectAsync(0, getChannel().getState(true));
     }
 
     /**
-     * Close the current nodes channel
+     * Wait for the channels of this node to terminate after {@link #shutdownChannels()}.
+     *
+     * @param deadline                  when to stop waiting
+     * @return                          whether all channels terminated in time
+     * @throws InterruptedException     thrown when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
+     */
+    boolean awaitChannelsTermination(Instant deadline) throws InterruptedException {
+        var pool = channels;
+        if (pool == null) {
+            return true;
+        }
+
+        // Wait without holding the lock, so getChannel() is not blocked meanwhile
+        if (!awaitTermination(pool, deadline)) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (channels == pool) {
+                channels = null;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean awaitTermination(PooledChannel[] pool, Instant deadline) throws InterruptedException {
+        for (var pooled : pool) {
+            var timeoutMillis = Duration.between(Instant.now(), deadline).toMillis();
+            if (timeoutMillis <= 0 || !pooled.channel.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Forcefully shut down the channels of this node, cancelling the calls in flight.
+     */
+    void shutdownChannelsNow() {
+        lock.lock();
+        try {
+            var pool = channels;
+            if (pool != null) {
+                for (var pooled : pool) {
+                    pooled.channel.shutdownNow();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Close the current nodes channels
      *
      * @param timeout                   the timeout value
      * @throws InterruptedException     thrown when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
      */
-    synchronized void close(Duration timeout) throws InterruptedException {
-        if (channel != null) {
-            channel.shutdown();
-            channel.awaitTermination(timeout.getSeconds(), TimeUnit.SECONDS);
-            channel = null;
+    void close(Duration timeout) throws InterruptedException {
+        PooledChannel[] pool;
+
+        lock.lock();
+        try {
+            pool = channels;
+            channels = null;
+        } finally {
+            lock.unlock();
+        }
+
+        if (pool == null) {
+            return;
+        }
+
+        for (var pooled : pool) {
+            pooled.channel.shutdown();
+        }
+
+        // Wait without holding the lock, so getChannel() is not blocked meanwhile
+        awaitTermination(pool, Instant.now().plus(timeout));
+    }
+
+    /**
+     * A channel of the pool of a node, which counts its calls in flight and follows its connectivity state.
+     */
+    static final class PooledChannel {
+        final ManagedChannel channel;
+
+        /**
+         * Number of calls which were started and have not been closed yet
+         */
+        final AtomicInteger inFlight = new AtomicInteger();
+
+        /**
+         * Is the channel READY right now?
+         */
+        volatile boolean ready = false;
+
+        /**
+         * Has the channel been READY at least once?
+         */
+        volatile boolean hasConnected = false;
+
+        /**
+         * Constructor.
+         *
+         * @param channelBuilder        the configured builder of the channel
+         */
+        PooledChannel(ManagedChannelBuilder<?> channelBuilder) {
+            this.channel = channelBuilder.intercept(new CallCounter()).build();
+        }
+
+        /**
+         * Should this channel rather be used than the given one?
+         *
+         * @param other                 the channel to compare with
+         * @return                      whether this channel is ready when the other is not, or equally ready and less
+         *                              loaded
+         */
+        boolean isBetterThan(PooledChannel other) {
+            if (ready != other.ready) {
+                return ready;
+            }
+
+            return inFlight.get() < other.inFlight.get();
+        }
+
+        /**
+         * Follow the connectivity state of the channel without requesting a connection, until it is shut down.
+         */
+        void watchState() {
+            var state = channel.getState(false);
+            ready = state == ConnectivityState.READY;
+
+            if (ready) {
+                hasConnected = true;
+            }
+
+            if (state != ConnectivityState.SHUTDOWN) {
+                channel.notifyWhenStateChanged(state, this::watchState);
+            }
+        }
+
+        /**
+         * Keeps {@link #inFlight} up to date.
+         */
+        private final class CallCounter implements ClientInterceptor {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+                    MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+                return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+                    @Override
+                    public void start(Listener<RespT> responseListener, Metadata headers) {
+                        inFlight.incrementAndGet();
+
+                        try {
+                            super.start(
+                                    new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(
+                                            responseListener) {
+                                        @Override
+                                        public void onClose(Status status, Metadata trailers) {
+                                            inFlight.decrementAndGet();
+                                            super.onClose(status, trailers);
+                                        }
+                                    },
+                                    headers);
+                        } catch (RuntimeException e) {
+                            inFlight.decrementAndGet();
+                            throw e;
+                        }
+                    }
+                };
+            }
         }
     }
 
@@ -379,4 +1050,27 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
             return "hiero-sdk-java/" + ((implementationVersion != null) ? (implementationVersion) : "DEV");
         }
     }
+
+    /**
+     * The states of the circuit breaker of a node.
+     * <p>
+     * A node starts {@link #CLOSED}. A bad gRPC status opens the circuit and takes the node out of the healthy nodes
+     * until its backoff passed. The circuit then becomes {@link #HALF_OPEN} while a single probe is sent to the node,
+     * and only a successful probe closes it and readmits the node, so user requests are not used to find out whether
+     * the node recovered.
+     */
+    enum CircuitState {
+        /**
+         * The node is healthy
+         */
+        CLOSED,
+        /**
+         * The node failed and backs off
+         */
+        OPEN,
+        /**
+         * The node is being probed
+         */
+        HALF_OPEN
+    }
 }
@@ -476,6 +476,7 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
         sigPairLists = new ArrayList<>(requiredChunks * nodeAccountIds.size());
         outerTransactions = new ArrayList<>(requiredChunks * nodeAccountIds.size());
         innerSignedTransactions = new ArrayList<>(requiredChunks * nodeAccountIds.size());
+        bodyTemplates = new ArrayList<>(requiredChunks);
 
         for (int i = 0; i < requiredChunks; i++) {
             if (!transactionIds.isEmpty()) {
@@ -496,14 +497,15 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
                         requiredChunks);
             }
 
+            if (!nodeAccountIds.isEmpty()) {
+                bodyTemplates.add(new TransactionBodyTemplate(
+                        Objects.requireNonNull(frozenBodyBuilder), nodeAccountIds.getList()));
+            }
+
             // For each node we add a transaction with that node
-            for (var nodeId : nodeAccountIds) {
+            for (var j = 0; j < nodeAccountIds.size(); j++) {
                 sigPairLists.add(SignatureMap.newBuilder());
-                innerSignedTransactions.add(SignedTransaction.newBuilder()
-                        .setBodyBytes(frozenBodyBuilder
-                                .setNodeAccountID(nodeId.toProtobuf())
-                                .build()
-                                .toByteString()));
+                innerSignedTransactions.add(SignedTransaction.newBuilder());
                 outerTransactions.add(null);
             }
         }
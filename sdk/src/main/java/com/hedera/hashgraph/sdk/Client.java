@@ -14,8 +14,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -46,6 +48,11 @@ public final class Client implements AutoCloseable {
     static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofMinutes(2L);
     static final Duration DEFAULT_GRPC_DEADLINE = Duration.ofSeconds(10L);
     static final Duration DEFAULT_NETWORK_UPDATE_PERIOD = Duration.ofHours(24);
+    static final int DEFAULT_CONCURRENCY_LIMIT = 256;
+    static final int DEFAULT_MAX_CONCURRENCY_LIMIT = 4096;
+    static final int DEFAULT_NODE_CONCURRENCY_LIMIT = 32;
+    static final int DEFAULT_MAX_NODE_CONCURRENCY_LIMIT = 512;
+    static final int DEFAULT_CHANNELS_PER_NODE = 1;
     // Initial delay of 10 seconds before we update the network for the first time,
     // so that this doesn't happen in unit tests.
     static final Duration NETWORK_UPDATE_INITIAL_DELAY = Duration.ofSeconds(10);
@@ -58,23 +65,38 @@ public final class Client implements AutoCloseable {
     private final Set<SubscriptionHandle> subscriptions = ConcurrentHashMap.newKeySet();
 
     @Nullable
-    Hbar defaultMaxTransactionFee = null;
+    volatile Hbar defaultMaxTransactionFee = null;
 
     Hbar defaultMaxQueryPayment = DEFAULT_MAX_QUERY_PAYMENT;
     Network network;
     MirrorNetwork mirrorNetwork;
 
+    // Read without the client monitor on every request, so callers on virtual threads never wait for a slow setter
     @Nullable
-    private Operator operator;
+    private volatile Operator operator;
 
-    private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+    private volatile Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
     private Duration closeTimeout = DEFAULT_CLOSE_TIMEOUT;
-    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private volatile int maxAttempts = DEFAULT_MAX_ATTEMPTS;
     private volatile Duration maxBackoff = DEFAULT_MAX_BACKOFF;
     private volatile Duration minBackoff = DEFAULT_MIN_BACKOFF;
-    private boolean autoValidateChecksums = false;
-    private boolean defaultRegenerateTransactionId = true;
+    private volatile boolean autoValidateChecksums = false;
+    private volatile NodeSelectionStrategy nodeSelectionStrategy = NodeSelectionStrategy.RANDOM;
+    private volatile ExecutionListener executionListener = ExecutionListener.NOOP;
+    private volatile boolean adaptiveConcurrency = false;
+    private volatile boolean probeUnhealthyNodes = false;
+    private volatile Timer timer = Delayer.SHARED_TIMER;
+    private volatile RetryBudget retryBudget = RetryBudget.unlimited();
+
+    @Nullable
+    private volatile QueueDepthExecutor callbackExecutor = null;
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private volatile boolean defaultRegenerateTransactionId = true;
     private final boolean shouldShutdownExecutor;
+    // A view created by withOperator shares the network, the channels and the executor of the client it was created
+    // from and must not close them
+    private final boolean isView;
     private final long shard;
     private final long realm;
     // If networkUpdatePeriod is null, any network updates in progress will not complete
@@ -84,6 +106,9 @@ public final class Client implements AutoCloseable {
     @Nullable
     private CompletableFuture<Void> networkUpdateFuture;
 
+    @Nullable
+    private Path addressBookSnapshotFile;
+
     private Logger logger = new Logger(LogLevel.SILENT);
 
     /**
@@ -111,9 +136,50 @@ public final class Client implements AutoCloseable {
         this.networkUpdatePeriod = networkUpdatePeriod;
         this.shard = shard;
         this.realm = realm;
+        this.concurrencyLimiter = new ConcurrencyLimiter(DEFAULT_CONCURRENCY_LIMIT, 1, DEFAULT_MAX_CONCURRENCY_LIMIT);
+        this.isView = false;
+        network.setHealthProbe(probeUnhealthyNodes ? this::probeAsync : null);
         scheduleNetworkUpdate(networkUpdateInitialDelay);
     }
 
+    /**
+     * Constructor for a view of a client, see {@link #withOperator(AccountId, PrivateKey)}.
+     *
+     * @param parent                 the client whose network and executor are shared
+     */
+    private Client(Client parent) {
+        this.executor = parent.executor;
+        this.network = parent.network;
+        this.mirrorNetwork = parent.mirrorNetwork;
+        this.shouldShutdownExecutor = false;
+        this.networkUpdatePeriod = null;
+        this.shard = parent.shard;
+        this.realm = parent.realm;
+        this.concurrencyLimiter = parent.concurrencyLimiter;
+        this.isView = true;
+
+        synchronized (parent) {
+            this.defaultMaxTransactionFee = parent.defaultMaxTransactionFee;
+            this.defaultMaxQueryPayment = parent.defaultMaxQueryPayment;
+            this.requestTimeout = parent.requestTimeout;
+            this.closeTimeout = parent.closeTimeout;
+            this.maxAttempts = parent.maxAttempts;
+            this.maxBackoff = parent.maxBackoff;
+            this.minBackoff = parent.minBackoff;
+            this.autoValidateChecksums = parent.autoValidateChecksums;
+            this.nodeSelectionStrategy = parent.nodeSelectionStrategy;
+            this.executionListener = parent.executionListener;
+            this.adaptiveConcurrency = parent.adaptiveConcurrency;
+            this.probeUnhealthyNodes = parent.probeUnhealthyNodes;
+            this.timer = parent.timer;
+            this.retryBudget = parent.retryBudget;
+            this.callbackExecutor = parent.callbackExecutor;
+            this.defaultRegenerateTransactionId = parent.defaultRegenerateTransactionId;
+            this.grpcDeadline.set(parent.grpcDeadline.get());
+            this.logger = parent.logger;
+        }
+    }
+
     /**
      * Extract the executor.
      *
@@ -136,6 +202,29 @@ public final class Client implements AutoCloseable {
                 new ThreadPoolExecutor.CallerRunsPolicy());
     }
 
+    /**
+     * Create an executor which starts a new virtual thread for each task.
+     * <p>
+     * Virtual threads make blocking cheap: a thread waiting in {@link Query#execute(Client)} or
+     * {@link Transaction#execute(Client)}, for a backoff, a response or a node's channel, releases its carrier thread,
+     * so tens of thousands of requests can be executed concurrently from plain threads.
+     *
+     * @return the executor service
+     * @throws UnsupportedOperationException when the runtime does not support virtual threads, i.e. before Java 21 and
+     *                                       on Android
+     */
+    public static ExecutorService createVirtualThreadExecutor() {
+        // Looked up reflectively, as the SDK also runs on Java 17 and Android
+        try {
+            return (ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new UnsupportedOperationException("virtual threads require Java 21 or later", e);
+        } catch (InvocationTargetException e) {
+            throw new UnsupportedOperationException("virtual threads are not available", e.getCause());
+        }
+    }
+
     /**
      *
      * Construct a client given a set of nodes.
@@ -168,7 +257,23 @@ public final class Client implements AutoCloseable {
      * @return {@link com.hedera.hashgraph.sdk.Client}
      */
     public static Client forNetwork(Map<String, AccountId> networkMap) {
-        var executor = createExecutor();
+        return forNetwork(networkMap, createExecutor(), true);
+    }
+
+    /**
+     * Construct a client given a set of nodes which executes requests on virtual threads.
+     *
+     * @param networkMap the map of node IDs to node addresses that make up the network.
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     * @throws UnsupportedOperationException when the runtime does not support virtual threads
+     * @see #createVirtualThreadExecutor()
+     */
+    public static Client forNetworkWithVirtualThreads(Map<String, AccountId> networkMap) {
+        return forNetwork(networkMap, createVirtualThreadExecutor(), true);
+    }
+
+    private static Client forNetwork(
+            Map<String, AccountId> networkMap, ExecutorService executor, boolean shouldShutdownExecutor) {
         var isValidNetwork = true;
         var shard = 0L;
         var realm = 0L;
@@ -194,7 +299,7 @@ public final class Client implements AutoCloseable {
         var network = Network.forNetwork(executor, networkMap);
         var mirrorNetwork = MirrorNetwork.forNetwork(executor, new ArrayList<>());
 
-        return new Client(executor, network, mirrorNetwork, null, true, null, shard, realm);
+        return new Client(executor, network, mirrorNetwork, null, shouldShutdownExecutor, null, shard, realm);
     }
 
     /**
@@ -253,18 +358,7 @@ public final class Client implements AutoCloseable {
      * @return {@link com.hedera.hashgraph.sdk.Client}
      */
     public static Client forMainnet(ExecutorService executor) {
-        var network = Network.forMainnet(executor);
-        var mirrorNetwork = MirrorNetwork.forMainnet(executor);
-
-        return new Client(
-                executor,
-                network,
-                mirrorNetwork,
-                NETWORK_UPDATE_INITIAL_DELAY,
-                false,
-                DEFAULT_NETWORK_UPDATE_PERIOD,
-                0,
-                0);
+        return forMainnet(executor, false);
     }
 
     /**
@@ -275,18 +369,7 @@ public final class Client implements AutoCloseable {
      * @return {@link com.hedera.hashgraph.sdk.Client}
      */
     public static Client forTestnet(ExecutorService executor) {
-        var network = Network.forTestnet(executor);
-        var mirrorNetwork = MirrorNetwork.forTestnet(executor);
-
-        return new Client(
-                executor,
-                network,
-                mirrorNetwork,
-                NETWORK_UPDATE_INITIAL_DELAY,
-                false,
-                DEFAULT_NETWORK_UPDATE_PERIOD,
-                0,
-                0);
+        return forTestnet(executor, false);
     }
 
     /**
@@ -298,18 +381,7 @@ public final class Client implements AutoCloseable {
      * @return {@link com.hedera.hashgraph.sdk.Client}
      */
     public static Client forPreviewnet(ExecutorService executor) {
-        var network = Network.forPreviewnet(executor);
-        var mirrorNetwork = MirrorNetwork.forPreviewnet(executor);
-
-        return new Client(
-                executor,
-                network,
-                mirrorNetwork,
-                NETWORK_UPDATE_INITIAL_DELAY,
-                false,
-                DEFAULT_NETWORK_UPDATE_PERIOD,
-                0,
-                0);
+        return forPreviewnet(executor, false);
     }
 
     /**
@@ -319,7 +391,68 @@ public final class Client implements AutoCloseable {
      * @return {@link com.hedera.hashgraph.sdk.Client}
      */
     public static Client forMainnet() {
-        var executor = createExecutor();
+        return forMainnet(createExecutor(), true);
+    }
+
+    /**
+     * Construct a Hedera client pre-configured for <a href="https://docs.hedera.com/guides/testnet/nodes">Testnet
+     * access</a>.
+     *
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     */
+    public static Client forTestnet() {
+        return forTestnet(createExecutor(), true);
+    }
+
+    /**
+     * Construct a Hedera client pre-configured for <a
+     * href="https://docs.hedera.com/guides/testnet/testnet-nodes#previewnet-node-public-keys">Preview Testnet
+     * nodes</a>.
+     *
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     */
+    public static Client forPreviewnet() {
+        return forPreviewnet(createExecutor(), true);
+    }
+
+    /**
+     * Construct a Hedera client pre-configured for <a
+     * href="https://docs.hedera.com/guides/mainnet/address-book#mainnet-address-book">Mainnet access</a> which executes requests on virtual threads.
+     *
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     * @throws UnsupportedOperationException when the runtime does not support virtual threads
+     * @see #createVirtualThreadExecutor()
+     */
+    public static Client forMainnetWithVirtualThreads() {
+        return forMainnet(createVirtualThreadExecutor(), true);
+    }
+
+    /**
+     * Construct a Hedera client pre-configured for <a href="https://docs.hedera.com/guides/testnet/nodes">Testnet
+     * access</a> which executes requests on virtual threads.
+     *
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     * @throws UnsupportedOperationException when the runtime does not support virtual threads
+     * @see #createVirtualThreadExecutor()
+     */
+    public static Client forTestnetWithVirtualThreads() {
+        return forTestnet(createVirtualThreadExecutor(), true);
+    }
+
+    /**
+     * Construct a Hedera client pre-configured for <a
+     * href="https://docs.hedera.com/guides/testnet/testnet-nodes#previewnet-node-public-keys">Preview Testnet
+     * nodes</a> which executes requests on virtual threads.
+     *
+     * @return {@link com.hedera.hashgraph.sdk.Client}
+     * @throws UnsupportedOperationException when the runtime does not support virtual threads
+     * @see #createVirtualThreadExecutor()
+     */
+    public static Client forPreviewnetWithVirtualThreads() {
+        return forPreviewnet(createVirtualThreadExecutor(), true);
+    }
+
+    private static Client forMainnet(ExecutorService executor, boolean shouldShutdownExecutor) {
         var network = Network.forMainnet(executor);
         var mirrorNetwork = MirrorNetwork.forMainnet(executor);
 
@@ -328,20 +461,13 @@ public final class Client implements AutoCloseable {
                 network,
                 mirrorNetwork,
                 NETWORK_UPDATE_INITIAL_DELAY,
-                true,
+                shouldShutdownExecutor,
                 DEFAULT_NETWORK_UPDATE_PERIOD,
                 0,
                 0);
     }
 
-    /**
-     * Construct a Hedera client pre-configured for <a href="https://docs.hedera.com/guides/testnet/nodes">Testnet
-     * access</a>.
-     *
-     * @return {@link com.hedera.hashgraph.sdk.Client}
-     */
-    public static Client forTestnet() {
-        var executor = createExecutor();
+    private static Client forTestnet(ExecutorService executor, boolean shouldShutdownExecutor) {
         var network = Network.forTestnet(executor);
         var mirrorNetwork = MirrorNetwork.forTestnet(executor);
 
@@ -350,21 +476,13 @@ public final class Client implements AutoCloseable {
                 network,
                 mirrorNetwork,
                 NETWORK_UPDATE_INITIAL_DELAY,
-                true,
+                shouldShutdownExecutor,
                 DEFAULT_NETWORK_UPDATE_PERIOD,
                 0,
                 0);
     }
 
-    /**
-     * Construct a Hedera client pre-configured for <a
-     * href="https://docs.hedera.com/guides/testnet/testnet-nodes#previewnet-node-public-keys">Preview Testnet
-     * nodes</a>.
-     *
-     * @return {@link com.hedera.hashgraph.sdk.Client}
-     */
-    public static Client forPreviewnet() {
-        var executor = createExecutor();
+    private static Client forPreviewnet(ExecutorService executor, boolean shouldShutdownExecutor) {
         var network = Network.forPreviewnet(executor);
         var mirrorNetwork = MirrorNetwork.forPreviewnet(executor);
 
@@ -373,7 +491,7 @@ public final class Client implements AutoCloseable {
                 network,
                 mirrorNetwork,
                 NETWORK_UPDATE_INITIAL_DELAY,
-                true,
+                shouldShutdownExecutor,
                 DEFAULT_NETWORK_UPDATE_PERIOD,
                 0,
                 0);
@@ -479,7 +597,7 @@ public final class Client implements AutoCloseable {
             return;
         }
 
-        networkUpdateFuture = Delayer.delayFor(delay.toMillis(), executor);
+        networkUpdateFuture = Delayer.delayFor(delay.toMillis(), timer, executor);
         networkUpdateFuture.thenRun(() -> {
             // Checking networkUpdatePeriod != null must be synchronized, so I've put it in a synchronized method.
             requireNetworkUpdatePeriodNotNull(() -> {
@@ -487,10 +605,11 @@ public final class Client implements AutoCloseable {
 
                 new AddressBookQuery()
                         .setFileId(fileId)
-                        .executeAsync(this)
+                        .executeAsync(this, Executable.deadlineAfter(getRequestTimeout()))
                         .thenCompose(addressBook -> requireNetworkUpdatePeriodNotNull(() -> {
                             try {
                                 this.setNetworkFromAddressBook(addressBook);
+                                saveAddressBookSnapshot(addressBook);
                             } catch (Throwable error) {
                                 return CompletableFuture.failedFuture(error);
                             }
@@ -507,6 +626,86 @@ public final class Client implements AutoCloseable {
         });
     }
 
+    /**
+     * Persist an address book fetched from a mirror node, see {@link #setAddressBookSnapshotFile(Path)}.
+     *
+     * @param addressBook the fetched address book
+     */
+    private synchronized void saveAddressBookSnapshot(NodeAddressBook addressBook) {
+        if (addressBookSnapshotFile == null) {
+            return;
+        }
+
+        try {
+            new AddressBookSnapshot(getLedgerId(), Instant.now(), addressBook).write(addressBookSnapshotFile);
+        } catch (IOException e) {
+            logger.warn("Failed to save the address book snapshot to {}: {}", addressBookSnapshotFile, e);
+        }
+    }
+
+    /**
+     * Extract the file the address book is persisted to.
+     *
+     * @return the address book snapshot file
+     */
+    @Nullable
+    public synchronized Path getAddressBookSnapshotFile() {
+        return addressBookSnapshotFile;
+    }
+
+    /**
+     * Persist the address book to a file, so clients can start without waiting for a mirror node.
+     * <p>
+     * When the file holds an address book of this client's ledger, the nodes and certificate hashes are updated from
+     * it right away. Every address book fetched by the periodic network update is then written to the file together
+     * with its ledger ID and the time it was fetched. A client whose snapshot is younger than the
+     * {@link #setNetworkUpdatePeriod(Duration) network update period} does not query the mirror node until the
+     * snapshot is due for an update, so short-lived clients start with the current nodes without a mirror round trip.
+     * <p>
+     * A missing file is created with the next network update; an unreadable one is ignored.
+     *
+     * @param addressBookSnapshotFile the file, or {@code null} to stop persisting the address book
+     * @return {@code this}
+     * @throws InterruptedException when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
+     */
+    public synchronized Client setAddressBookSnapshotFile(@Nullable Path addressBookSnapshotFile)
+            throws InterruptedException {
+        this.addressBookSnapshotFile = addressBookSnapshotFile;
+
+        if (addressBookSnapshotFile == null) {
+            return this;
+        }
+
+        AddressBookSnapshot snapshot;
+        try {
+            snapshot = AddressBookSnapshot.read(addressBookSnapshotFile);
+        } catch (IOException e) {
+            logger.warn("Ignoring the address book snapshot {}: {}", addressBookSnapshotFile, e);
+            return this;
+        }
+
+        if (snapshot == null || !Objects.equals(snapshot.ledgerId, getLedgerId())) {
+            return this;
+        }
+
+        try {
+            setNetworkFromAddressBook(snapshot.addressBook);
+        } catch (TimeoutException e) {
+            throw new RuntimeException(e);
+        }
+
+        var age = Duration.between(snapshot.fetchedAt, Instant.now());
+        if (networkUpdatePeriod != null && age.compareTo(networkUpdatePeriod) < 0) {
+            var untilStale = networkUpdatePeriod.minus(age);
+
+            cancelScheduledNetworkUpdate();
+            scheduleNetworkUpdate(
+                    untilStale.compareTo(NETWORK_UPDATE_INITIAL_DELAY) > 0 ? untilStale : NETWORK_UPDATE_INITIAL_DELAY);
+        }
+
+        return this;
+    }
+
     private synchronized CompletionStage<?> requireNetworkUpdatePeriodNotNull(Supplier<CompletionStage<?>> task) {
         return networkUpdatePeriod != null ? task.get() : CompletableFuture.completedFuture(null);
     }
@@ -697,6 +896,24 @@ public final class Client implements AutoCloseable {
         return result;
     }
 
+    /**
+     * Ping a single proxy of a node with a single attempt. Used to probe nodes before they are readmitted.
+     *
+     * @param node the node proxy to ping
+     * @return an empty future that throws exception if there was an error
+     */
+    CompletableFuture<Void> probeAsync(Node node) {
+        return new AccountBalanceQuery()
+                .setAccountId(node.getAccountId())
+                .setNodeAccountIds(Collections.singletonList(node.getAccountId()))
+                .setTargetNode(node)
+                .setMaxAttempts(1)
+                // a probe must not refill the retry budget of user requests
+                .setRetryBudget(RetryBudget.unlimited())
+                .executeAsync(this, Executable.deadlineAfter(getRequestTimeout()))
+                .thenApply(balance -> null);
+    }
+
     /**
      * Send a ping to the given node asynchronously.
      *
@@ -742,6 +959,46 @@ public final class Client implements AutoCloseable {
         ConsumerHelper.twoConsumers(pingAsync(nodeAccountId, timeout), onSuccess, onFailure);
     }
 
+    /**
+     * Connect to every consensus and mirror node concurrently, so the first requests after startup do not pay for the
+     * connections, TLS handshakes and certificate verification.
+     * <p>
+     * Nodes which do not connect within the timeout are put into backoff, so requests avoid them from the start.
+     *
+     * @param timeout the maximum time to wait for the nodes
+     * @return the nodes which failed to connect
+     */
+    public WarmUpResult warmUp(Duration timeout) {
+        return warmUpAsync(timeout).join();
+    }
+
+    /**
+     * Connect to every consensus and mirror node concurrently, so the first requests after startup do not pay for the
+     * connections, TLS handshakes and certificate verification.
+     * <p>
+     * Nodes which do not connect within the timeout are put into backoff, so requests avoid them from the start.
+     *
+     * @param timeout the maximum time to wait for the nodes
+     * @return a future which completes with the nodes which failed to connect
+     */
+    public CompletableFuture<WarmUpResult> warmUpAsync(Duration timeout) {
+        Objects.requireNonNull(timeout);
+
+        return network.warmUpAsync(timeout).thenCombine(mirrorNetwork.warmUpAsync(timeout), (nodes, mirrorNodes) -> {
+            var failedNodes = new ArrayList<AccountId>(nodes.size());
+            for (var node : nodes) {
+                failedNodes.add(node.getAccountId());
+            }
+
+            var failedMirrorNodes = new ArrayList<String>(mirrorNodes.size());
+            for (var mirrorNode : mirrorNodes) {
+                failedMirrorNodes.add(mirrorNode.getAddress().toString());
+            }
+
+            return new WarmUpResult(failedNodes, failedMirrorNodes);
+        });
+    }
+
     /**
      * Sends pings to all nodes in the client's network. Combines well with setMaxAttempts(1) to remove all dead nodes
      * from the network.
@@ -887,6 +1144,40 @@ public final class Client implements AutoCloseable {
         return this;
     }
 
+    /**
+     * Create a view of this client which pays for and signs requests with a different operator.
+     * <p>
+     * The view shares the nodes, their gRPC channels and health, the mirror network, the executor, the timer, the
+     * retry budget and the adaptive concurrency limit with this client, so any number of operators can be served
+     * through a single connection pool. The operator, the default fees and query payment, the timeouts, the attempts
+     * and backoff, the execution listener and the other request settings start out as copies of this client's and can
+     * be changed on the view without affecting this client.
+     * <p>
+     * Changes to the network itself, for example {@link #setNetwork(Map)}, the node selection strategy or the timer,
+     * are made on this client and seen by all of its views. Closing a view only cancels the subscriptions started through it; the
+     * channels and the executor stay open until this client is closed, after which its views must not be used.
+     *
+     * @param accountId  the account ID of the operator
+     * @param privateKey the private key of the operator
+     * @return the view
+     */
+    public Client withOperator(AccountId accountId, PrivateKey privateKey) {
+        return withOperatorWith(accountId, privateKey.getPublicKey(), privateKey::sign);
+    }
+
+    /**
+     * Create a view of this client which pays for requests with a different operator and signs them with the given
+     * signer, see {@link #withOperator(AccountId, PrivateKey)}.
+     *
+     * @param accountId         the account ID of the operator
+     * @param publicKey         the public key of the operator
+     * @param transactionSigner the signer for the operator
+     * @return the view
+     */
+    public Client withOperatorWith(AccountId accountId, PublicKey publicKey, UnaryOperator<byte[]> transactionSigner) {
+        return new Client(this).setOperatorWith(accountId, publicKey, transactionSigner);
+    }
+
     /**
      * Current name of the network; corresponds to ledger ID in entity ID checksum calculations.
      *
@@ -941,7 +1232,7 @@ public final class Client implements AutoCloseable {
      *
      * @return the maximus attempts
      */
-    public synchronized int getMaxAttempts() {
+    public int getMaxAttempts() {
         return maxAttempts;
     }
 
@@ -1147,6 +1438,355 @@ public final class Client implements AutoCloseable {
         return this;
     }
 
+    /**
+     * Extract the number of gRPC channels requests to each node are spread across.
+     *
+     * @return the number of channels per node
+     */
+    public int getChannelsPerNode() {
+        return network.getChannelsPerNode();
+    }
+
+    /**
+     * Set the number of gRPC channels, and therefore HTTP/2 connections, requests to each node are spread across.
+     * <p>
+     * All calls on a channel share one connection, which the node limits to a number of concurrent streams. With more
+     * than one channel per node, every call goes to the ready channel with the fewest calls in flight, which raises
+     * the throughput a single node can take at the cost of one connection per channel. The default is 1. Applies to
+     * both the consensus and the mirror nodes.
+     *
+     * @param channelsPerNode the desired number of channels per node
+     * @return {@code this}
+     */
+    public synchronized Client setChannelsPerNode(int channelsPerNode) {
+        if (channelsPerNode < 1) {
+            throw new IllegalArgumentException("channelsPerNode must be at least 1");
+        }
+
+        network.setChannelsPerNode(channelsPerNode);
+        mirrorNetwork.setChannelsPerNode(channelsPerNode);
+        return this;
+    }
+
+    /**
+     * Extract the strategy used to pick the nodes a request is sent to.
+     *
+     * @return the node selection strategy
+     */
+    public NodeSelectionStrategy getNodeSelectionStrategy() {
+        return nodeSelectionStrategy;
+    }
+
+    /**
+     * Set the strategy used to pick the nodes a request is sent to. Defaults to {@link NodeSelectionStrategy#RANDOM}.
+     * <p>
+     * With {@link NodeSelectionStrategy#POWER_OF_TWO_CHOICES} the client tracks a moving average of the round-trip
+     * latency and the rate of {@code BUSY} responses of every node and steers traffic towards the faster nodes.
+     * <p>
+     * The strategy belongs to the network, so it can not be set on a view created by
+     * {@link #withOperator(AccountId, PrivateKey)}.
+     *
+     * @param nodeSelectionStrategy the desired node selection strategy
+     * @return {@code this}
+     */
+    public synchronized Client setNodeSelectionStrategy(NodeSelectionStrategy nodeSelectionStrategy) {
+        if (isView) {
+            throw new IllegalStateException(
+                    "the node selection strategy of a view is set on the client it was created from");
+        }
+
+        this.nodeSelectionStrategy = Objects.requireNonNull(nodeSelectionStrategy);
+        network.setNodeSelectionStrategy(nodeSelectionStrategy);
+        return this;
+    }
+
+    /**
+     * Is adaptive concurrency limiting enabled?
+     *
+     * @return is adaptive concurrency limiting enabled
+     */
+    public boolean isAdaptiveConcurrency() {
+        return adaptiveConcurrency;
+    }
+
+    /**
+     * Enable or disable adaptive concurrency limiting. Disabled by default.
+     * <p>
+     * When enabled, every attempt of {@code execute} and {@code executeAsync} needs a permit from the client's
+     * {@link ConcurrencyLimiter} and from the limiter of the node it is sent to, and waits until both are available.
+     * The limits grow while nodes answer and are halved when a node responds with {@link Status#BUSY} or
+     * {@code RESOURCE_EXHAUSTED}, so concurrent callers back off together instead of each retrying on its own.
+     *
+     * @param adaptiveConcurrency should adaptive concurrency limiting be enabled
+     * @return {@code this}
+     */
+    public Client setAdaptiveConcurrency(boolean adaptiveConcurrency) {
+        this.adaptiveConcurrency = adaptiveConcurrency;
+        return this;
+    }
+
+    /**
+     * Are nodes probed before they are readmitted?
+     *
+     * @return are unhealthy nodes probed
+     */
+    public boolean isProbeUnhealthyNodes() {
+        return probeUnhealthyNodes;
+    }
+
+    /**
+     * Enable or disable probing of unhealthy nodes. Disabled by default.
+     * <p>
+     * When a node fails with a bad gRPC status, its circuit opens and it is taken out of the healthy nodes until its
+     * backoff passed. With probing enabled, a single ping is then sent to the node in the background and the node is
+     * only readmitted once the ping succeeds; a failed or {@code BUSY} ping opens the circuit again with a longer
+     * backoff. With probing disabled, nodes are readmitted as soon as their backoff passed and user requests find out
+     * whether they recovered.
+     * <p>
+     * Pings are account balance queries, which are free. They do not count towards the latency of the node, the
+     * retry budget or the concurrency limits.
+     *
+     * @param probeUnhealthyNodes should unhealthy nodes be probed
+     * @return {@code this}
+     */
+    public synchronized Client setProbeUnhealthyNodes(boolean probeUnhealthyNodes) {
+        if (isView) {
+            throw new IllegalStateException("the health probe of a view is set on the client it was created from");
+        }
+
+        this.probeUnhealthyNodes = probeUnhealthyNodes;
+        network.setHealthProbe(probeUnhealthyNodes ? this::probeAsync : null);
+        return this;
+    }
+
+    /**
+     * Extract the timer on which retry backoff, hedged requests, node probes and network updates are scheduled.
+     *
+     * @return the timer
+     */
+    public Timer getTimer() {
+        return timer;
+    }
+
+    /**
+     * Assign the timer on which retry backoff, hedged requests, node probes and network updates are scheduled.
+     * <p>
+     * Defaults to a {@link HashedWheelTimer} shared by all clients. The client does not close the timer; a timer given
+     * to it must stay open until the client is closed. Delays which were already scheduled stay on the previous timer.
+     * The timer is shared with the network, so it can not be set on a view created by
+     * {@link #withOperator(AccountId, PrivateKey)}.
+     *
+     * @param timer the timer
+     * @return {@code this}
+     */
+    public synchronized Client setTimer(Timer timer) {
+        if (isView) {
+            throw new IllegalStateException("the timer of a view is set on the client it was created from");
+        }
+
+        this.timer = Objects.requireNonNull(timer);
+        network.setTimer(timer);
+        return this;
+    }
+
+    /**
+     * Extract the executor gRPC runs response handling on.
+     *
+     * @return the transport executor, or {@code null} when responses are handled on the client's executor
+     */
+    @Nullable
+    public Executor getTransportExecutor() {
+        return network.getTransportExecutor() instanceof QueueDepthExecutor transportExecutor
+                ? transportExecutor.getDelegate()
+                : null;
+    }
+
+    /**
+     * Assign the executor gRPC runs response handling, including the deserialization of responses, on.
+     * <p>
+     * By default responses are handled on the client's executor, which also runs retries, node probes and network
+     * updates. A separate transport executor keeps that work from waiting behind responses and the other way around.
+     * Pass {@code Runnable::run} to handle responses directly on the threads of the transport, which saves a thread
+     * hop but must only be combined with a {@link #setCallbackExecutor(Executor) callback executor}, so no user code
+     * runs on those threads. Applies to both the consensus and the mirror nodes; open channels are replaced once their
+     * calls completed.
+     *
+     * @param transportExecutor the transport executor, or {@code null} to use the client's executor
+     * @return {@code this}
+     */
+    public synchronized Client setTransportExecutor(@Nullable Executor transportExecutor) {
+        var queueDepthExecutor = transportExecutor != null ? new QueueDepthExecutor(transportExecutor) : null;
+        network.setTransportExecutor(queueDepthExecutor);
+        mirrorNetwork.setTransportExecutor(queueDepthExecutor);
+        return this;
+    }
+
+    /**
+     * Extract the executor the futures returned by {@code executeAsync} are completed on.
+     *
+     * @return the callback executor, or {@code null} when futures complete on the thread which finished the request
+     */
+    @Nullable
+    public Executor getCallbackExecutor() {
+        var callbackExecutor = this.callbackExecutor;
+        return callbackExecutor != null ? callbackExecutor.getDelegate() : null;
+    }
+
+    /**
+     * Assign the executor the futures returned by {@code executeAsync} and {@code getCostAsync} are completed on, and
+     * therefore the executor callbacks and dependent stages run on.
+     * <p>
+     * By default a future is completed on the thread which finished the request, usually a thread of the client's
+     * executor, so a slow callback holds up the responses and retries of all other requests. With a callback executor
+     * user code only ever blocks its own threads. Callbacks of topic subscriptions are not affected.
+     *
+     * @param callbackExecutor the callback executor, or {@code null} to complete futures on the thread which finished
+     *                         the request
+     * @return {@code this}
+     */
+    public Client setCallbackExecutor(@Nullable Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor != null ? new QueueDepthExecutor(callbackExecutor) : null;
+        return this;
+    }
+
+    /**
+     * Hand the completion of a future returned to the user over to the callback executor, if there is one.
+     *
+     * @param future the future completed by the SDK
+     * @param <T>    the type of the result
+     * @return a future completed on the callback executor
+     */
+    <T> CompletableFuture<T> completeOnCallbackExecutor(CompletableFuture<T> future) {
+        var callbackExecutor = this.callbackExecutor;
+        if (callbackExecutor == null) {
+            return future;
+        }
+
+        var handedOver = future.whenCompleteAsync((result, error) -> {}, callbackExecutor);
+        handedOver.whenComplete((result, error) -> {
+            if (error instanceof CancellationException) {
+                future.cancel(false);
+            }
+        });
+        return handedOver;
+    }
+
+    /**
+     * Extract the number of tasks waiting for a thread of the client's executor.
+     *
+     * @return the queue depth, or 0 when the executor is not a {@link ThreadPoolExecutor}
+     */
+    public int getExecutorQueueDepth() {
+        return executor instanceof ThreadPoolExecutor pool ? pool.getQueue().size() : 0;
+    }
+
+    /**
+     * Extract the number of responses waiting for a thread of the transport executor. The number of pending delays is
+     * reported by {@link Timer#pendingTimeouts()}.
+     *
+     * @return the queue depth, or the queue depth of the client's executor when there is no transport executor
+     */
+    public int getTransportQueueDepth() {
+        return network.getTransportExecutor() instanceof QueueDepthExecutor transportExecutor
+                ? transportExecutor.getQueueDepth()
+                : getExecutorQueueDepth();
+    }
+
+    /**
+     * Extract the number of futures waiting for a thread of the callback executor to be completed.
+     *
+     * @return the queue depth, or 0 when there is no callback executor
+     */
+    public int getCallbackQueueDepth() {
+        var callbackExecutor = this.callbackExecutor;
+        return callbackExecutor != null ? callbackExecutor.getQueueDepth() : 0;
+    }
+
+    /**
+     * Extract the retry budget shared by the requests executed with this client.
+     *
+     * @return the retry budget
+     */
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * Assign the retry budget shared by the requests executed with this client.
+     * <p>
+     * Defaults to {@link RetryBudget#unlimited()}, which only limits retries by the maximum number of attempts. Use
+     * {@link RetryBudget#RetryBudget()}, which allows retries up to 20% of the successful requests plus 10 retries per
+     * second, to keep a partial outage of the network from multiplying the load by {@link #getMaxAttempts()}.
+     *
+     * @param retryBudget the retry budget
+     * @return {@code this}
+     */
+    public Client setRetryBudget(RetryBudget retryBudget) {
+        this.retryBudget = Objects.requireNonNull(retryBudget);
+        return this;
+    }
+
+    /**
+     * Extract the client wide concurrency limiter, which holds the current limit and number of requests in flight.
+     *
+     * @return the concurrency limiter
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Extract the current concurrency limit of every node in the network.
+     *
+     * @return the limit by node account ID; for nodes with multiple addresses, the lowest limit
+     */
+    public Map<AccountId, Integer> getNodeConcurrencyLimits() {
+        var limits = new HashMap<AccountId, Integer>();
+        for (var node : network.getNodes()) {
+            limits.merge(node.getAccountId(), node.getConcurrencyLimiter().getLimit(), Math::min);
+        }
+        return limits;
+    }
+
+    /**
+     * Create a pipeline which submits many transactions with a bounded number of them in flight.
+     *
+     * @return a new transaction pipeline using this client
+     */
+    public TransactionPipeline newTransactionPipeline() {
+        return new TransactionPipeline(this);
+    }
+
+    /**
+     * Extract the listener notified about the execution of requests and the health of the nodes.
+     *
+     * @return the execution listener
+     */
+    public ExecutionListener getExecutionListener() {
+        return executionListener;
+    }
+
+    /**
+     * Set the listener notified about the execution of requests and the health of the nodes. Defaults to
+     * {@link ExecutionListener#NOOP}.
+     * <p>
+     * Use {@link ExecutionMetrics} to collect per node counters and latency histograms.
+     * <p>
+     * The listener of a view created by {@link #withOperator(AccountId, PrivateKey)} is only told about the requests
+     * executed through the view. The backoff and readmission of the shared nodes are reported to the listener of the
+     * client the view was created from.
+     *
+     * @param executionListener the desired execution listener
+     * @return {@code this}
+     */
+    public synchronized Client setExecutionListener(ExecutionListener executionListener) {
+        this.executionListener = Objects.requireNonNull(executionListener);
+        if (!isView) {
+            network.setExecutionListener(executionListener);
+        }
+        return this;
+    }
+
     /**
      * Enable or disable automatic entity ID checksum validation.
      *
@@ -1163,7 +1803,7 @@ public final class Client implements AutoCloseable {
      *
      * @return is validation enabled
      */
-    public synchronized boolean isAutoValidateChecksumsEnabled() {
+    public boolean isAutoValidateChecksumsEnabled() {
         return autoValidateChecksums;
     }
 
@@ -1173,7 +1813,8 @@ public final class Client implements AutoCloseable {
      * @return {AccountId}
      */
     @Nullable
-    public synchronized AccountId getOperatorAccountId() {
+    public AccountId getOperatorAccountId() {
+        var operator = this.operator;
         if (operator == null) {
             return null;
         }
@@ -1187,7 +1828,8 @@ public final class Client implements AutoCloseable {
      * @return {PublicKey}
      */
     @Nullable
-    public synchronized PublicKey getOperatorPublicKey() {
+    public PublicKey getOperatorPublicKey() {
+        var operator = this.operator;
         if (operator == null) {
             return null;
         }
@@ -1201,7 +1843,7 @@ public final class Client implements AutoCloseable {
      * @return the max transaction fee
      */
     @Nullable
-    public synchronized Hbar getDefaultMaxTransactionFee() {
+    public Hbar getDefaultMaxTransactionFee() {
         return defaultMaxTransactionFee;
     }
 
@@ -1291,7 +1933,7 @@ public final class Client implements AutoCloseable {
      *
      * @return the default regenerate transaction id
      */
-    public synchronized boolean getDefaultRegenerateTransactionId() {
+    public boolean getDefaultRegenerateTransactionId() {
         return defaultRegenerateTransactionId;
     }
 
@@ -1311,7 +1953,7 @@ public final class Client implements AutoCloseable {
      *
      * @return the timeout value
      */
-    public synchronized Duration getRequestTimeout() {
+    public Duration getRequestTimeout() {
         return requestTimeout;
     }
 
@@ -1374,7 +2016,7 @@ public final class Client implements AutoCloseable {
      * @return the operator
      */
     @Nullable
-    synchronized Operator getOperator() {
+    Operator getOperator() {
         return this.operator;
     }
 
@@ -1398,6 +2040,10 @@ public final class Client implements AutoCloseable {
      * @return {@code this}
      */
     public synchronized Client setNetworkUpdatePeriod(Duration networkUpdatePeriod) {
+        if (isView) {
+            throw new IllegalStateException("the network of a view is updated by the client it was created from");
+        }
+
         cancelScheduledNetworkUpdate();
         this.networkUpdatePeriod = networkUpdatePeriod;
         scheduleNetworkUpdate(networkUpdatePeriod);
@@ -1462,6 +2108,10 @@ public final class Client implements AutoCloseable {
         cancelScheduledNetworkUpdate();
         cancelAllSubscriptions();
 
+        if (isView) {
+            return;
+        }
+
         network.beginClose();
         mirrorNetwork.beginClose();
 
@@ -0,0 +1,219 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nullable;
+
+/**
+ * An adaptive limit on the number of requests in flight, using additive-increase/multiplicative-decrease (AIMD).
+ * <p>
+ * Every successful response grows the limit by {@code 1 / limit}, i.e. by one request per window of responses. A
+ * {@link Status#BUSY} response or a {@code RESOURCE_EXHAUSTED} gRPC status halves the limit, at most once per window:
+ * overload signals from requests which were sent before the last decrease are not counted again.
+ * <p>
+ * Requests which cannot be admitted wait in FIFO order until a permit is released.
+ */
+public final class ConcurrencyLimiter {
+    private static final double DECREASE_FACTOR = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final ArrayDeque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+    private long epoch;
+
+    /**
+     * Constructor.
+     *
+     * @param initialLimit              the limit to start with
+     * @param minLimit                  the limit is never decreased below this value
+     * @param maxLimit                  the limit is never increased above this value
+     */
+    ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Extract the current limit.
+     *
+     * @return                          the number of requests allowed in flight
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Extract the number of requests currently in flight.
+     *
+     * @return                          the number of requests in flight
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Extract the number of requests waiting for a permit.
+     *
+     * @return                          the number of waiting requests
+     */
+    public synchronized int getWaiting() {
+        return waiters.size();
+    }
+
+    /**
+     * Extract the minimum limit.
+     *
+     * @return                          the minimum limit
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Extract the maximum limit.
+     *
+     * @return                          the maximum limit
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Acquire a permit. The returned future completes once the request may be sent; cancel it to stop waiting.
+     *
+     * @return                          the future permit
+     */
+    CompletableFuture<Permit> acquire() {
+        synchronized (this) {
+            var permit = tryAcquire();
+            if (permit != null) {
+                return CompletableFuture.completedFuture(permit);
+            }
+
+            var waiter = new CompletableFuture<Permit>();
+            waiters.add(waiter);
+            return waiter;
+        }
+    }
+
+    /**
+     * Acquire a permit only when one is available right away, without queueing behind the waiting requests.
+     *
+     * @return                          the permit, or {@code null} when the request would have to wait
+     */
+    @Nullable
+    synchronized Permit tryAcquire() {
+        if (waiters.isEmpty() && inFlight < (int) limit) {
+            inFlight++;
+            return new Permit(epoch);
+        }
+
+        return null;
+    }
+
+    private void release(Permit permit, Signal signal) {
+        synchronized (this) {
+            inFlight--;
+
+            switch (signal) {
+                case SUCCESS -> limit = Math.min(maxLimit, limit + 1.0 / limit);
+                case OVERLOAD -> {
+                    if (permit.epoch == epoch) {
+                        limit = Math.max(minLimit, limit * DECREASE_FACTOR);
+                        epoch++;
+                    }
+                }
+                default -> {}
+            }
+        }
+
+        admitWaiters();
+    }
+
+    private void admitWaiters() {
+        while (true) {
+            CompletableFuture<Permit> waiter;
+            Permit permit;
+
+            synchronized (this) {
+                if (waiters.isEmpty() || inFlight >= (int) limit) {
+                    return;
+                }
+
+                waiter = waiters.poll();
+                if (waiter.isDone()) {
+                    // the waiter gave up
+                    continue;
+                }
+
+                inFlight++;
+                permit = new Permit(epoch);
+            }
+
+            // Complete outside the lock, the waiter continues on this thread
+            if (!waiter.complete(permit)) {
+                permit.release();
+            }
+        }
+    }
+
+    private enum Signal {
+        SUCCESS,
+        OVERLOAD,
+        IGNORE
+    }
+
+    /**
+     * Permission to send one request. Exactly one of the release methods must be called when the request is done;
+     * later calls are ignored.
+     */
+    final class Permit {
+        private final long epoch;
+        private boolean released;
+
+        private Permit(long epoch) {
+            this.epoch = epoch;
+        }
+
+        /**
+         * The request received a response and the node was not overloaded.
+         */
+        void success() {
+            release(Signal.SUCCESS);
+        }
+
+        /**
+         * The node signaled that it is overloaded.
+         */
+        void overload() {
+            release(Signal.OVERLOAD);
+        }
+
+        /**
+         * The request finished without a signal about the load of the node.
+         */
+        void release() {
+            release(Signal.IGNORE);
+        }
+
+        private void release(Signal signal) {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+
+            ConcurrencyLimiter.this.release(this, signal);
+        }
+    }
+}
@@ -4,8 +4,6 @@ package com.hedera.hashgraph.sdk;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
@@ -17,11 +15,10 @@ import org.slf4j.LoggerFactory;
 final class Delayer {
     private static final Logger logger = LoggerFactory.getLogger(Delayer.class);
 
-    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
-        Thread t = new Thread(r);
-        t.setDaemon(true);
-        return t;
-    });
+    /**
+     * The timer of clients which were not given one. Its worker thread is a daemon and it is never closed.
+     */
+    static final Timer SHARED_TIMER = new HashedWheelTimer();
 
     private static final Duration MIN_DELAY = Duration.ofMillis(500);
 
@@ -34,29 +31,49 @@ final class Delayer {
      * Set the delay backoff attempts.
      *
      * @param attempt                   the attempts
+     * @param timer                     the timer
      * @param executor                  the executor
      * @return                          the updated future
      */
-    static CompletableFuture<Void> delayBackOff(int attempt, Executor executor) {
+    static CompletableFuture<Void> delayBackOff(int attempt, Timer timer, Executor executor) {
         var interval = MIN_DELAY.multipliedBy(ThreadLocalRandom.current().nextLong(1L << attempt));
 
-        return delayFor(interval.toMillis(), executor);
+        return delayFor(interval.toMillis(), timer, executor);
     }
 
     /**
-     * Set the delay backoff milliseconds.
+     * Set the delay backoff milliseconds. Cancelling the returned future removes the delay from the timer.
      *
      * @param milliseconds              the milliseconds
+     * @param timer                     the timer
      * @param executor                  the executor
      * @return                          the updated future
      */
-    static CompletableFuture<Void> delayFor(long milliseconds, Executor executor) {
-        logger.trace("waiting for {} seconds before trying again", (double) milliseconds / 1000.0);
+    static CompletableFuture<Void> delayFor(long milliseconds, Timer timer, Executor executor) {
+        var future = new CompletableFuture<Void>();
+        var timeout = runAfter(milliseconds, timer, executor, () -> future.complete(null));
 
-        return CompletableFuture.runAsync(() -> {}, delayedExecutor(milliseconds, TimeUnit.MILLISECONDS, executor));
+        future.whenComplete((ignored, error) -> {
+            if (future.isCancelled()) {
+                timeout.cancel();
+            }
+        });
+
+        return future;
     }
 
-    private static Executor delayedExecutor(long delay, TimeUnit unit, Executor executor) {
-        return r -> SCHEDULER.schedule(() -> executor.execute(r), delay, unit);
+    /**
+     * Run a task on the executor after a delay, without creating a future for it.
+     *
+     * @param milliseconds              the milliseconds
+     * @param timer                     the timer
+     * @param executor                  the executor
+     * @param task                      the task to run
+     * @return                          the handle with which the delay can be cancelled
+     */
+    static Timer.Timeout runAfter(long milliseconds, Timer timer, Executor executor, Runnable task) {
+        logger.trace("waiting for {} seconds before trying again", (double) milliseconds / 1000.0);
+
+        return timer.schedule(() -> executor.execute(task), milliseconds, TimeUnit.MILLISECONDS);
     }
 }
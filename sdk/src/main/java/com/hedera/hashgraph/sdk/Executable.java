@@ -1,32 +1,32 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.hashgraph.sdk;
 
-import static com.hedera.hashgraph.sdk.FutureConverter.toCompletableFuture;
-
 import com.google.common.annotations.VisibleForTesting;
 import com.google.protobuf.MessageLite;
 import com.hedera.hashgraph.sdk.logger.LogLevel;
 import com.hedera.hashgraph.sdk.logger.Logger;
 import io.grpc.CallOptions;
 import io.grpc.ClientCall;
+import io.grpc.Deadline;
 import io.grpc.MethodDescriptor;
 import io.grpc.Status.Code;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.ClientCalls;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
@@ -74,6 +74,12 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
      */
     protected LockableList<Node> nodes = new LockableList<>();
 
+    /**
+     * The only node proxy execution is attempted with, used to probe that proxy
+     */
+    @Nullable
+    private Node targetNode = null;
+
     /**
      * Indicates if the request has been attempted to be sent to all nodes
      */
@@ -84,6 +90,15 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
     protected Duration grpcDeadline;
 
     protected Logger logger;
+
+    /**
+     * The listener notified about attempts, taken from the client on execution
+     */
+    private ExecutionListener executionListener = ExecutionListener.NOOP;
+
+    @Nullable
+    private RetryBudget retryBudget = null;
+
     private java.util.function.Function<ProtoRequestT, ProtoRequestT> requestListener;
     // Lambda responsible for executing synchronous gRPC requests. Pluggable for unit testing.
     @VisibleForTesting
@@ -228,6 +243,29 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
         return (SdkRequestT) this;
     }
 
+    /**
+     * Get the retry budget of this request.
+     *
+     * @return the retry budget, or {@code null} when the budget of the client is used
+     */
+    @Nullable
+    public final RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * Set the retry budget from which the retries of this request are withdrawn, instead of the budget of the client.
+     * Use {@link RetryBudget#unlimited()} to only limit retries by {@link #setMaxAttempts(int)}.
+     *
+     * @param retryBudget the retry budget, or {@code null} to use the budget of the client
+     * @return {@code this}
+     */
+    public final SdkRequestT setRetryBudget(@Nullable RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+        // noinspection unchecked
+        return (SdkRequestT) this;
+    }
+
     /**
      * Get the list of account IDs for nodes with which execution will be attempted.
      *
@@ -306,6 +344,15 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
 
     abstract CompletableFuture<Void> onExecuteAsync(Client client);
 
+    /**
+     * Prepare the requests for the next attempt of an asynchronous execution after a response asked for a retry.
+     *
+     * @return a future which completes once the next request can be made
+     */
+    CompletableFuture<Void> onRetryAsync() {
+        return CompletableFuture.completedFuture(null);
+    }
+
     void mergeFromClient(Client client) {
         if (maxAttempts == null) {
             maxAttempts = client.getMaxAttempts();
@@ -363,6 +410,20 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
      * @throws PrecheckStatusException when the precheck fails
      */
     public O execute(Client client, Duration timeout) throws TimeoutException, PrecheckStatusException {
+        return execute(client, deadlineAfter(timeout));
+    }
+
+    /**
+     * Execute this transaction or query before a deadline. The deadline covers all attempts, backoffs and connection
+     * waits, and also bounds the gRPC deadline of every attempt.
+     *
+     * @param client   The client with which this will be executed.
+     * @param deadline The deadline after which the execution attempt will be cancelled.
+     * @return Result of execution
+     * @throws TimeoutException        when the transaction times out
+     * @throws PrecheckStatusException when the precheck fails
+     */
+    O execute(Client client, Deadline deadline) throws TimeoutException, PrecheckStatusException {
         Throwable lastException = null;
         if (isBatchedAndNotBatchTransaction()) {
             throw new IllegalArgumentException("Cannot execute batchified transaction outside of BatchTransaction");
@@ -372,47 +433,67 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
         if (this.logger == null) {
             this.logger = client.getLogger();
         }
+        this.executionListener = client.getExecutionListener();
 
         mergeFromClient(client);
         onExecute(client);
         checkNodeAccountIds();
         setNodesFromNodeAccountIds(client);
 
-        var timeoutTime = Instant.now().plus(timeout);
+        var retryBudget = getRetryBudget(client);
+        var failed = false;
 
         for (int attempt = 1; /* condition is done within loop */ ; attempt++) {
             if (attempt > maxAttempts) {
                 throw new MaxAttemptsExceededException(lastException);
             }
 
-            Duration currentTimeout = Duration.between(Instant.now(), timeoutTime);
-            if (currentTimeout.isNegative() || currentTimeout.isZero()) {
+            if (failed && !tryRetry(retryBudget, attempt)) {
+                throw new RetryBudgetExhaustedException(lastException);
+            }
+
+            if (deadline.isExpired()) {
                 throw new TimeoutException();
             }
 
-            GrpcRequest grpcRequest = new GrpcRequest(client.network, attempt, currentTimeout);
+            failed = true;
+
+            GrpcRequest grpcRequest = new GrpcRequest(client.network, attempt, deadline);
             Node node = grpcRequest.getNode();
             ResponseT response = null;
 
             // If we get an unhealthy node here, we've cycled through all the "good" nodes that have failed
             // and have no choice but to try a bad one.
             if (!node.isHealthy()) {
-                delay(node.getRemainingTimeForBackoff());
+                delay(grpcRequest.reportBackoff(node.getRemainingTimeForBackoff()));
             }
 
-            if (node.channelFailedToConnect(timeoutTime)) {
+            if (node.channelFailedToConnect(deadline)) {
                 logger.trace("Failed to connect channel for node {} for request #{}", node.getAccountId(), attempt);
                 lastException = grpcRequest.reactToConnectionFailure();
                 continue;
             }
 
-            currentTimeout = Duration.between(Instant.now(), timeoutTime);
-            grpcRequest.setGrpcDeadline(currentTimeout);
+            var attemptRequest = grpcRequest;
+            attemptRequest.acquirePermits(client, deadline);
 
             try {
-                response = blockingUnaryCall.apply(grpcRequest);
+                if (getHedgeDelay(node) != null && nodes.size() > 1) {
+                    var outcome = sendAsync(client, grpcRequest, deadline).get();
+                    grpcRequest = outcome.request;
+                    node = grpcRequest.getNode();
+                    if (outcome.error != null) {
+                        throw outcome.error;
+                    }
+                    response = outcome.response;
+                } else {
+                    grpcRequest.markSent();
+                    response = blockingUnaryCall.apply(grpcRequest);
+                }
+                attemptRequest.releasePermits(response, null);
                 logTransaction(this.getTransactionIdInternal(), client, node, false, attempt, response, null);
             } catch (Throwable e) {
+                attemptRequest.releasePermits(null, e);
                 if (e instanceof StatusRuntimeException) {
                     StatusRuntimeException statusRuntimeException = (StatusRuntimeException) e;
                     if (statusRuntimeException.getStatus().getCode().equals(Code.DEADLINE_EXCEEDED)) {
@@ -434,6 +515,7 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
             var status = mapResponseStatus(response);
             var executionState = getExecutionState(status, response);
             grpcRequest.handleResponse(response, status, executionState);
+            failed = isFailure(executionState, status);
 
             switch (executionState) {
                 case SERVER_ERROR:
@@ -443,19 +525,85 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
                     // Response is not ready yet from server, need to wait.
                     lastException = grpcRequest.mapStatusException();
                     if (attempt < maxAttempts) {
-                        currentTimeout = Duration.between(Instant.now(), timeoutTime);
-                        delay(Math.min(currentTimeout.toMillis(), grpcRequest.getDelay()));
+                        delay(grpcRequest.reportBackoff(
+                                Math.min(deadline.timeRemaining(TimeUnit.MILLISECONDS), grpcRequest.getDelay())));
                     }
                     continue;
                 case REQUEST_ERROR:
                     throw grpcRequest.mapStatusException();
                 case SUCCESS:
                 default:
+                    retryBudget.onSuccess();
                     return grpcRequest.mapResponse();
             }
         }
     }
 
+    /**
+     * Resolve the retry budget of an execution: the budget of this request if it has one, otherwise the budget of the
+     * client.
+     *
+     * @param client the client
+     * @return the retry budget
+     */
+    RetryBudget getRetryBudget(Client client) {
+        return retryBudget != null ? retryBudget : client.getRetryBudget();
+    }
+
+    /**
+     * Withdraw a retry from the budget before an attempt which follows a failed one.
+     *
+     * @param retryBudget the retry budget
+     * @param attempt     the attempt about to be made
+     * @return whether the attempt may be made
+     */
+    private boolean tryRetry(RetryBudget retryBudget, int attempt) {
+        if (retryBudget.tryAcquire()) {
+            return true;
+        }
+
+        executionListener.onRetryBudgetExhausted(getClass().getSimpleName(), attempt);
+        return false;
+    }
+
+    /**
+     * Is the attempt after a response with this state a retry which needs the retry budget? Polling for a result
+     * which is not available yet, such as a receipt which has not reached consensus, does not.
+     *
+     * @param executionState the execution state of the response
+     * @param status         the precheck status of the response
+     * @return whether the response is a failure
+     */
+    static boolean isFailure(ExecutionState executionState, Status status) {
+        return switch (executionState) {
+            case SERVER_ERROR -> true;
+            case RETRY -> status == Status.BUSY || status == Status.PLATFORM_NOT_ACTIVE;
+            default -> false;
+        };
+    }
+
+    /**
+     * Restrict execution to a single proxy of a node instead of all proxies of the node account IDs.
+     *
+     * @param targetNode the node proxy
+     * @return {@code this}
+     */
+    @SuppressWarnings("unchecked")
+    SdkRequestT setTargetNode(Node targetNode) {
+        this.targetNode = targetNode;
+        return (SdkRequestT) this;
+    }
+
+    /**
+     * Is this request a health probe of its target node? So that it does not skew what it measures, a probe does not
+     * count towards the latency of the node or the concurrency limits.
+     *
+     * @return whether this request is a health probe
+     */
+    private boolean isHealthProbe() {
+        return targetNode != null;
+    }
+
     protected boolean isBatchedAndNotBatchTransaction() {
         return false;
     }
@@ -484,7 +632,19 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
      * @return Future result of execution
      */
     public CompletableFuture<O> executeAsync(Client client, Duration timeout) {
-        var retval = new CompletableFuture<O>().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        return client.completeOnCallbackExecutor(executeAsync(client, deadlineAfter(timeout)));
+    }
+
+    /**
+     * Execute this transaction or query asynchronously before a deadline.
+     *
+     * @param client   The client with which this will be executed.
+     * @param deadline The deadline after which the execution attempt will be cancelled.
+     * @return Future result of execution
+     */
+    CompletableFuture<O> executeAsync(Client client, Deadline deadline) {
+        var retval = new CompletableFuture<O>()
+                .orTimeout(Math.max(0, deadline.timeRemaining(TimeUnit.NANOSECONDS)), TimeUnit.NANOSECONDS);
 
         mergeFromClient(client);
 
@@ -493,7 +653,7 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
                     checkNodeAccountIds();
                     setNodesFromNodeAccountIds(client);
 
-                    executeAsyncInternal(client, 1, null, retval, timeout);
+                    new AsyncExecution(client, retval, deadline).run();
                 })
                 .exceptionally(error -> {
                     retval.completeExceptionally(error);
@@ -592,6 +752,11 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
     void setNodesFromNodeAccountIds(Client client) {
         nodes.clear();
 
+        if (targetNode != null) {
+            nodes.add(targetNode);
+            return;
+        }
+
         // When a single node is explicitly set we get all of its proxies so in case of
         // failure the system can retry with different proxy on each attempt
         if (nodeAccountIds.size() == 1) {
@@ -607,6 +772,7 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
 
         // When multiple nodes are available the system retries with different node on each attempt
         // instead of different proxy of the same node
+        var nodeSelectionStrategy = client.getNodeSelectionStrategy();
         for (var accountId : nodeAccountIds) {
             @Nullable var nodeProxies = client.network.getNodeProxies(accountId);
             if (nodeProxies == null || nodeProxies.isEmpty()) {
@@ -616,7 +782,7 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
                 continue;
             }
 
-            var node = nodeProxies.get(random.nextInt(nodeProxies.size()));
+            var node = nodeSelectionStrategy.select(nodeProxies, random);
 
             nodes.add(Objects.requireNonNull(node));
         }
@@ -687,134 +853,506 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
         return request;
     }
 
-    private void executeAsyncInternal(
-            Client client,
-            int attempt,
-            @Nullable Throwable lastException,
-            CompletableFuture<O> returnFuture,
-            Duration timeout) {
-        // If the logger on the request is not set, use the logger in client
-        // (if set, otherwise do not use logger)
-        if (this.logger == null && client.getLogger() != null) {
-            this.logger = client.getLogger();
+    /**
+     * The state of an asynchronous execution, see {@link AsyncExecution}.
+     */
+    private enum AsyncState {
+        /**
+         * Wait for the requests to be prepared for a retry, see {@link #onRetryAsync()}
+         */
+        PREPARE,
+        /**
+         * Select the node for the next attempt and wait out its backoff
+         */
+        ATTEMPT,
+        /**
+         * Check that the channel of the node is connected
+         */
+        CONNECT,
+        /**
+         * React to the connection check and wait for concurrency permits
+         */
+        CONNECTED,
+        /**
+         * Send the request
+         */
+        SEND,
+        /**
+         * Handle the response or error of the attempt
+         */
+        RESPONDED
+    }
+
+    /**
+     * Drives an asynchronous execution through its attempts.
+     * <p>
+     * Every step which has to wait for something (a backoff, the channel, a permit or the response) stores the state
+     * to continue with and re-enters {@link #run()} once it is done. {@code run()} trampolines the steps in a loop, so
+     * the stack stays flat no matter how many attempts are made or on which thread the callbacks arrive, and at most
+     * one thread drives the execution at a time. The execution is itself the listener of the gRPC calls it makes, so
+     * an attempt does not allocate anything beyond the call.
+     */
+    private final class AsyncExecution extends ClientCall.Listener<ResponseT> implements Runnable {
+        private final Client client;
+        private final CompletableFuture<O> returnFuture;
+        private final Deadline deadline;
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private AsyncState state = AsyncState.ATTEMPT;
+        private int attempt;
+
+        @Nullable
+        private Throwable lastException;
+
+        @Nullable
+        private GrpcRequest grpcRequest;
+
+        // The request which produced the response, differs from grpcRequest when a hedged request won
+        @Nullable
+        private GrpcRequest respondedRequest;
+
+        private boolean connectionFailed;
+
+        // why the permits of the attempt could not be acquired
+        @Nullable
+        private Throwable permitError;
+
+        private final RetryBudget retryBudget;
+
+        // whether the next attempt is a retry after a failure, which needs the retry budget
+        private boolean failed;
+
+        @Nullable
+        private ResponseT response;
+
+        @Nullable
+        private Throwable error;
+
+        AsyncExecution(Client client, CompletableFuture<O> returnFuture, Deadline deadline) {
+            this.client = client;
+            this.returnFuture = returnFuture;
+            this.deadline = deadline;
+
+            // If the logger on the request is not set, use the logger in client
+            // (if set, otherwise do not use logger)
+            if (logger == null && client.getLogger() != null) {
+                logger = client.getLogger();
+            }
+            executionListener = client.getExecutionListener();
+            retryBudget = getRetryBudget(client);
         }
 
-        if (returnFuture.isCancelled() || returnFuture.isCompletedExceptionally() || returnFuture.isDone()) {
-            return;
+        @Override
+        public void run() {
+            if (wip.getAndIncrement() != 0) {
+                // Another thread is driving the execution and will run the next step
+                return;
+            }
+
+            do {
+                try {
+                    while (step()) {
+                        // keep going until a step has to wait
+                    }
+                } catch (Throwable e) {
+                    if (grpcRequest != null) {
+                        grpcRequest.releasePermits(null, e);
+                    }
+                    returnFuture.completeExceptionally(new CompletionException(e));
+                }
+            } while (wip.decrementAndGet() != 0);
         }
 
-        if (attempt > maxAttempts) {
-            returnFuture.completeExceptionally(
-                    new CompletionException(new MaxAttemptsExceededException(lastException)));
-            return;
+        @Override
+        public void onMessage(ResponseT message) {
+            response = message;
         }
 
-        var timeoutTime = Instant.now().plus(timeout);
+        @Override
+        public void onClose(io.grpc.Status status, io.grpc.Metadata trailers) {
+            error = callError(status, trailers, response != null);
+            if (error != null) {
+                response = null;
+            }
+            run();
+        }
 
-        GrpcRequest grpcRequest =
-                new GrpcRequest(client.network, attempt, Duration.between(Instant.now(), timeoutTime));
+        /**
+         * Run the step for the current state.
+         *
+         * @return whether the next step can run right away
+         */
+        private boolean step() {
+            return switch (state) {
+                case PREPARE -> prepareRetry();
+                case ATTEMPT -> startAttempt();
+                case CONNECT -> checkConnection();
+                case CONNECTED -> acquirePermits();
+                case SEND -> send();
+                case RESPONDED -> handleOutcome();
+            };
+        }
 
-        Supplier<CompletableFuture<Void>> afterUnhealthyDelay = () -> {
-            return grpcRequest.getNode().isHealthy()
-                    ? CompletableFuture.completedFuture((Void) null)
-                    : Delayer.delayFor(grpcRequest.getNode().getRemainingTimeForBackoff(), client.executor);
-        };
+        private boolean prepareRetry() {
+            state = AsyncState.ATTEMPT;
+
+            var prepared = onRetryAsync();
+            if (prepared.isDone() && !prepared.isCompletedExceptionally()) {
+                return true;
+            }
+
+            prepared.whenComplete((ignored, e) -> {
+                if (e != null) {
+                    returnFuture.completeExceptionally(
+                            e instanceof CompletionException ? e : new CompletionException(e));
+                }
+                run();
+            });
+            return false;
+        }
+
+        private boolean startAttempt() {
+            if (returnFuture.isDone()) {
+                return false;
+            }
+
+            attempt++;
+            if (attempt > maxAttempts) {
+                returnFuture.completeExceptionally(
+                        new CompletionException(new MaxAttemptsExceededException(lastException)));
+                return false;
+            }
+
+            if (failed && !tryRetry(retryBudget, attempt)) {
+                returnFuture.completeExceptionally(
+                        new CompletionException(new RetryBudgetExhaustedException(lastException)));
+                return false;
+            }
 
-        afterUnhealthyDelay.get().thenRun(() -> {
-            grpcRequest
-                    .getNode()
-                    .channelFailedToConnectAsync()
-                    .thenAccept(connectionFailed -> {
-                        if (connectionFailed) {
-                            var connectionException = grpcRequest.reactToConnectionFailure();
-                            executeAsyncInternal(
-                                    client,
-                                    attempt + 1,
-                                    connectionException,
-                                    returnFuture,
-                                    Duration.between(Instant.now(), timeoutTime));
-                            return;
+            if (deadline.isExpired()) {
+                returnFuture.completeExceptionally(new CompletionException(new TimeoutException()));
+                return false;
+            }
+
+            failed = true;
+            grpcRequest = new GrpcRequest(client.network, attempt, deadline);
+            state = AsyncState.CONNECT;
+
+            var node = grpcRequest.getNode();
+            if (node.isHealthy()) {
+                return true;
+            }
+
+            Delayer.runAfter(
+                    grpcRequest.reportBackoff(node.getRemainingTimeForBackoff()),
+                    client.getTimer(),
+                    client.executor,
+                    this);
+            return false;
+        }
+
+        private boolean checkConnection() {
+            var node = Objects.requireNonNull(grpcRequest).getNode();
+            state = AsyncState.CONNECTED;
+
+            if (node.hasConnected()) {
+                connectionFailed = false;
+                return true;
+            }
+
+            node.channelFailedToConnectAsync().whenComplete((failed, e) -> {
+                connectionFailed = e != null || failed;
+                run();
+            });
+            return false;
+        }
+
+        private boolean acquirePermits() {
+            var request = Objects.requireNonNull(grpcRequest);
+
+            if (connectionFailed) {
+                lastException = request.reactToConnectionFailure();
+                state = AsyncState.ATTEMPT;
+                return true;
+            }
+
+            state = AsyncState.SEND;
+            if (!client.isAdaptiveConcurrency()) {
+                return true;
+            }
+
+            request.acquirePermitsAsync(client, deadline, returnFuture).whenComplete((ignored, e) -> {
+                permitError = e instanceof CompletionException ? e.getCause() : e;
+                run();
+            });
+            return false;
+        }
+
+        private boolean send() {
+            var request = Objects.requireNonNull(grpcRequest);
+            var permitError = this.permitError;
+            this.permitError = null;
+
+            // The execution may have timed out or been cancelled while waiting for permits
+            if (permitError != null || returnFuture.isDone() || deadline.isExpired()) {
+                request.releasePermits(null, null);
+                returnFuture.completeExceptionally(
+                        new CompletionException(permitError != null ? permitError : new TimeoutException()));
+                return false;
+            }
+
+            state = AsyncState.RESPONDED;
+            respondedRequest = request;
+            response = null;
+            error = null;
+
+            if (getHedgeDelay(request.getNode()) != null && nodes.size() > 1) {
+                sendAsync(client, request, deadline).thenAccept(outcome -> {
+                    respondedRequest = outcome.request;
+                    response = outcome.response;
+                    error = outcome.error;
+                    run();
+                });
+                return false;
+            }
+
+            // onClose re-enters run(), possibly before start() returns
+            request.start(this);
+            return false;
+        }
+
+        private boolean handleOutcome() {
+            var request = Objects.requireNonNull(respondedRequest);
+            Objects.requireNonNull(grpcRequest).releasePermits(response, error);
+
+            logTransaction(getTransactionIdInternal(), client, request.getNode(), true, attempt, response, error);
+
+            state = AsyncState.ATTEMPT;
+
+            if (error != null) {
+                if (request.shouldRetryExceptionally(error)) {
+                    // the transaction had a network failure reaching Hedera
+                    lastException = error;
+                    return true;
+                }
+
+                // not a network failure, some other weirdness going on; just fail fast
+                returnFuture.completeExceptionally(new CompletionException(error));
+                return false;
+            }
+
+            var currentResponse = Objects.requireNonNull(response);
+            var status = mapResponseStatus(currentResponse);
+            var executionState = getExecutionState(status, currentResponse);
+            request.handleResponse(currentResponse, status, executionState);
+            failed = isFailure(executionState, status);
+
+            switch (executionState) {
+                case SERVER_ERROR:
+                    lastException = request.mapStatusException();
+                    return true;
+                case RETRY:
+                    lastException = request.mapStatusException();
+                    state = AsyncState.PREPARE;
+                    var delay = attempt < maxAttempts
+                            ? request.reportBackoff(
+                                    Math.min(deadline.timeRemaining(TimeUnit.MILLISECONDS), request.getDelay()))
+                            : 0;
+                    if (delay <= 0) {
+                        return true;
+                    }
+
+                    Delayer.runAfter(delay, client.getTimer(), client.executor, this);
+                    return false;
+                case REQUEST_ERROR:
+                    returnFuture.completeExceptionally(new CompletionException(request.mapStatusException()));
+                    return false;
+                case SUCCESS:
+                default:
+                    retryBudget.onSuccess();
+                    returnFuture.complete(request.mapResponse());
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * Map the status a unary call was closed with to the error of the call, the same way
+     * {@link ClientCalls} does.
+     *
+     * @param status   the status the call was closed with
+     * @param trailers the trailers of the call
+     * @param received whether a response was received
+     * @return the error, or {@code null} when the call succeeded
+     */
+    @Nullable
+    private static StatusRuntimeException callError(
+            io.grpc.Status status, io.grpc.Metadata trailers, boolean received) {
+        if (!status.isOk()) {
+            return status.asRuntimeException(trailers);
+        }
+
+        if (!received) {
+            return io.grpc.Status.INTERNAL
+                    .withDescription("No value received for unary call")
+                    .asRuntimeException(trailers);
+        }
+
+        return null;
+    }
+
+    /**
+     * The time after which a duplicate of the request is sent to the next node when the given node has not answered
+     * yet. Only read-only requests may be hedged.
+     *
+     * @param node the node the request was sent to
+     * @return the hedge delay, or {@code null} when the request must not be hedged
+     */
+    @Nullable
+    Duration getHedgeDelay(Node node) {
+        return null;
+    }
+
+    /**
+     * Send the request for the current attempt. When hedging applies to it and no response has arrived within the
+     * hedge delay, a duplicate request is sent to the next node in {@link #nodes}. No duplicate is sent when the next
+     * node is the same node, or when it would have to wait for concurrency permits.
+     * <p>
+     * The returned future completes with the first successful response, in which case the other call is cancelled, or
+     * with the outcome of whichever call completed last. It never completes exceptionally on a gRPC failure.
+     *
+     * @param client      the client
+     * @param grpcRequest the request for the current attempt
+     * @param deadline    the deadline of the whole execution
+     * @return the outcome which should be handled
+     */
+    private CompletableFuture<Outcome> sendAsync(Client client, GrpcRequest grpcRequest, Deadline deadline) {
+        var hedgeDelay = getHedgeDelay(grpcRequest.getNode());
+
+        if (hedgeDelay == null || nodes.size() < 2) {
+            return grpcRequest.sendAsync().handle((response, error) -> new Outcome(grpcRequest, response, error));
+        }
+
+        // Build the hedge on this thread, but roll back the shared indexes it advanced until it is actually sent,
+        // so an unsent hedge does not make the next attempt skip a node or use up a payment transaction
+        var nodeIndex = nodes.getIndex();
+        var nodeAccountIdIndex = nodeAccountIds.getIndex();
+        var attemptedAll = attemptedAllNodes;
+
+        var hedge = new GrpcRequest(client.network, grpcRequest.attempt, deadline);
+
+        var hedgeNodeIndex = nodes.getIndex();
+        var hedgeNodeAccountIdIndex = nodeAccountIds.getIndex();
+        var hedgeAttemptedAll = attemptedAllNodes;
+
+        nodes.setIndex(nodeIndex);
+        nodeAccountIds.setIndex(nodeAccountIdIndex);
+        attemptedAllNodes = attemptedAll;
+
+        if (hedge.getNode() == grpcRequest.getNode()) {
+            return grpcRequest.sendAsync().handle((response, error) -> new Outcome(grpcRequest, response, error));
+        }
+
+        var outcome = new CompletableFuture<Outcome>();
+        var inFlight = new AtomicInteger(1);
+        var requests = new CopyOnWriteArrayList<GrpcRequest>();
+
+        requests.add(grpcRequest);
+        sendHedgedAsync(grpcRequest, outcome, inFlight, requests);
+
+        Delayer.delayFor(hedgeDelay.toMillis(), client.getTimer(), client.executor)
+                .thenRun(() -> {
+                    // A hedge is only worth it when it can be sent right away
+                    if (outcome.isDone() || deadline.isExpired() || !hedge.tryAcquirePermits(client)) {
+                        return;
+                    }
+
+                    // Only hedge while the first call is still outstanding
+                    if (!inFlight.compareAndSet(1, 2)) {
+                        hedge.releasePermits(null, null);
+                        return;
+                    }
+
+                    logger.trace(
+                            "Hedging attempt #{} to node {} after {} ms without a response from node {}",
+                            grpcRequest.attempt,
+                            hedge.getNode().getAccountId(),
+                            hedgeDelay.toMillis(),
+                            grpcRequest.getNode().getAccountId());
+
+                    requests.add(hedge);
+                    sendHedgedAsync(hedge, outcome, inFlight, requests);
+                });
+
+        // Advance the shared indexes past the hedge once it was sent, on the thread which goes on to use them
+        return outcome.thenApply(result -> {
+            if (requests.contains(hedge)) {
+                nodes.setIndex(hedgeNodeIndex);
+                nodeAccountIds.setIndex(hedgeNodeAccountIdIndex);
+                attemptedAllNodes = hedgeAttemptedAll;
+            }
+            return result;
+        });
+    }
+
+    private void sendHedgedAsync(
+            GrpcRequest grpcRequest,
+            CompletableFuture<Outcome> outcome,
+            AtomicInteger inFlight,
+            List<GrpcRequest> requests) {
+        // The permits of the first request are released by the caller, the hedge returns its own
+        var isHedge = requests.get(0) != grpcRequest;
+
+        if (outcome.isDone()) {
+            inFlight.decrementAndGet();
+            if (isHedge) {
+                grpcRequest.releasePermits(null, null);
+            }
+            return;
+        }
+
+        grpcRequest.sendAsync().whenComplete((response, error) -> {
+            if (isHedge) {
+                grpcRequest.releasePermits(response, error);
+            }
+
+            var successful =
+                    error == null && getExecutionState(mapResponseStatus(response), response) == ExecutionState.SUCCESS;
+
+            if (successful) {
+                if (outcome.complete(new Outcome(grpcRequest, response, null))) {
+                    for (var request : requests) {
+                        if (request != grpcRequest) {
+                            request.cancel();
                         }
+                    }
+                }
+                return;
+            }
 
-                        toCompletableFuture(
-                                        ClientCalls.futureUnaryCall(grpcRequest.createCall(), grpcRequest.getRequest()))
-                                .handle((response, error) -> {
-                                    logTransaction(
-                                            this.getTransactionIdInternal(),
-                                            client,
-                                            grpcRequest.getNode(),
-                                            true,
-                                            attempt,
-                                            response,
-                                            error);
-
-                                    if (grpcRequest.shouldRetryExceptionally(error)) {
-                                        // the transaction had a network failure reaching Hedera
-                                        executeAsyncInternal(
-                                                client,
-                                                attempt + 1,
-                                                error,
-                                                returnFuture,
-                                                Duration.between(Instant.now(), timeoutTime));
-                                        return null;
-                                    }
-
-                                    if (error != null) {
-                                        // not a network failure, some other weirdness going on; just fail fast
-                                        returnFuture.completeExceptionally(new CompletionException(error));
-                                        return null;
-                                    }
-
-                                    var status = mapResponseStatus(response);
-                                    var executionState = getExecutionState(status, response);
-                                    grpcRequest.handleResponse(response, status, executionState);
-
-                                    switch (executionState) {
-                                        case SERVER_ERROR:
-                                            executeAsyncInternal(
-                                                    client,
-                                                    attempt + 1,
-                                                    grpcRequest.mapStatusException(),
-                                                    returnFuture,
-                                                    Duration.between(Instant.now(), timeoutTime));
-                                            break;
-                                        case RETRY:
-                                            Delayer.delayFor(
-                                                            (attempt < maxAttempts) ? grpcRequest.getDelay() : 0,
-                                                            client.executor)
-                                                    .thenRun(() -> executeAsyncInternal(
-                                                            client,
-                                                            attempt + 1,
-                                                            grpcRequest.mapStatusException(),
-                                                            returnFuture,
-                                                            Duration.between(Instant.now(), timeoutTime)));
-                                            break;
-                                        case REQUEST_ERROR:
-                                            returnFuture.completeExceptionally(
-                                                    new CompletionException(grpcRequest.mapStatusException()));
-                                            break;
-                                        case SUCCESS:
-                                        default:
-                                            returnFuture.complete(grpcRequest.mapResponse());
-                                    }
-                                    return null;
-                                })
-                                .exceptionally(error -> {
-                                    returnFuture.completeExceptionally(error);
-                                    return null;
-                                });
-                    })
-                    .exceptionally(error -> {
-                        returnFuture.completeExceptionally(error);
-                        return null;
-                    });
+            if (inFlight.decrementAndGet() == 0) {
+                outcome.complete(new Outcome(grpcRequest, response, error));
+            } else if (error != null && !outcome.isDone()) {
+                // The other call is still running and decides the outcome, but this node still has to back off
+                grpcRequest.shouldRetryExceptionally(error);
+            }
         });
     }
 
     abstract ProtoRequestT makeRequest();
 
     GrpcRequest getGrpcRequest(int attempt) {
-        return new GrpcRequest(null, attempt, this.grpcDeadline);
+        return new GrpcRequest(null, attempt, deadlineAfter(this.grpcDeadline));
+    }
+
+    /**
+     * Create a deadline which expires after the timeout, measured with {@link System#nanoTime()}.
+     *
+     * @param timeout the timeout
+     * @return the deadline
+     */
+    static Deadline deadlineAfter(Duration timeout) {
+        return Deadline.after(timeout.toNanos(), TimeUnit.NANOSECONDS);
     }
 
     void advanceRequest() {
@@ -885,20 +1423,31 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
         private final int attempt;
         // private final ClientCall<ProtoRequestT, ResponseT> call;
         private final ProtoRequestT request;
-        private final long startAt;
         private final long delay;
-        private Duration grpcDeadline;
+        private final Deadline deadline;
         private ResponseT response;
         private double latency;
         private Status responseStatus;
 
-        GrpcRequest(@Nullable Network network, int attempt, Duration grpcDeadline) {
+        // when the request was sent, so latencies do not include backoffs, connecting or waiting for permits
+        private long startAt;
+        private boolean sent;
+
+        @Nullable
+        private volatile ClientCall<ProtoRequestT, ResponseT> call;
+
+        @Nullable
+        private ConcurrencyLimiter.Permit clientPermit;
+
+        @Nullable
+        private ConcurrencyLimiter.Permit nodePermit;
+
+        GrpcRequest(@Nullable Network network, int attempt, Deadline deadline) {
             this.network = network;
             this.attempt = attempt;
-            this.grpcDeadline = grpcDeadline;
+            this.deadline = deadline;
             this.node = getNodeForExecute(attempt);
             this.request = getRequestForExecute(); // node index gets incremented here
-            this.startAt = System.nanoTime();
 
             // Exponential back-off for Delayer: 250ms, 500ms, 1s, 2s, 4s, 8s, ... 8s
             delay = (long) Math.min(
@@ -907,13 +1456,9 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
         }
 
         public CallOptions getCallOptions() {
-            long deadline = Math.min(this.grpcDeadline.toMillis(), Executable.this.grpcDeadline.toMillis());
-
-            return CallOptions.DEFAULT.withDeadlineAfter(deadline, TimeUnit.MILLISECONDS);
-        }
-
-        public void setGrpcDeadline(Duration grpcDeadline) {
-            this.grpcDeadline = grpcDeadline;
+            // An attempt may take at most the request's gRPC deadline, and must not outlive the execution
+            return CallOptions.DEFAULT.withDeadline(
+                    deadlineAfter(Executable.this.grpcDeadline).minimum(deadline));
         }
 
         public Node getNode() {
@@ -929,11 +1474,225 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
             return Executable.this.requestListener.apply(request);
         }
 
+        /**
+         * Start the call for this attempt. The listener receives the response and is closed exactly once.
+         *
+         * @param listener the listener of the call
+         */
+        void start(ClientCall.Listener<ResponseT> listener) {
+            var call = createCall();
+            this.call = call;
+            markSent();
+
+            try {
+                call.start(listener, new io.grpc.Metadata());
+                // Ask for one more message than a unary call returns, so gRPC reports a misbehaving server
+                call.request(2);
+                call.sendMessage(getRequest());
+                call.halfClose();
+            } catch (RuntimeException | Error e) {
+                call.cancel(null, e);
+                throw e;
+            }
+        }
+
+        /**
+         * Record that the request is being sent now, from which the latency of the attempt is measured.
+         */
+        void markSent() {
+            startAt = System.nanoTime();
+            sent = true;
+
+            executionListener.onAttemptStart(getRequestType(), node.getAccountId(), attempt);
+        }
+
+        private long getLatencyNanos() {
+            return sent ? System.nanoTime() - startAt : 0;
+        }
+
+        CompletableFuture<ResponseT> sendAsync() {
+            var future = new CompletableFuture<ResponseT>();
+
+            start(new ClientCall.Listener<>() {
+                @Nullable
+                private ResponseT response;
+
+                @Override
+                public void onMessage(ResponseT message) {
+                    response = message;
+                }
+
+                @Override
+                public void onClose(io.grpc.Status status, io.grpc.Metadata trailers) {
+                    var error = callError(status, trailers, response != null);
+                    if (error != null) {
+                        future.completeExceptionally(error);
+                    } else {
+                        future.complete(response);
+                    }
+                }
+            });
+
+            return future;
+        }
+
+        void cancel() {
+            var call = this.call;
+            if (call != null) {
+                call.cancel("A hedged request completed first", null);
+            }
+        }
+
+        /**
+         * Wait for permits from the node's and the client's concurrency limiter when adaptive concurrency is
+         * enabled. The node's permit is taken first, so a request waiting for a busy node does not hold a permit of
+         * the client.
+         *
+         * @param client   the client
+         * @param deadline the deadline of the whole execution
+         * @throws TimeoutException when no permit became available in time
+         */
+        void acquirePermits(Client client, Deadline deadline) throws TimeoutException {
+            if (!client.isAdaptiveConcurrency() || isHealthProbe()) {
+                return;
+            }
+
+            nodePermit = awaitPermit(node.getConcurrencyLimiter().acquire(), deadline);
+            clientPermit = awaitPermit(client.getConcurrencyLimiter().acquire(), deadline);
+        }
+
+        private ConcurrencyLimiter.Permit awaitPermit(
+                CompletableFuture<ConcurrencyLimiter.Permit> permit, Deadline deadline) throws TimeoutException {
+            try {
+                return permit.get(deadline.timeRemaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | InterruptedException e) {
+                if (!permit.cancel(false)) {
+                    permit.join().release();
+                }
+                releasePermits(null, null);
+
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+                throw (TimeoutException) e;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Acquire permits from the node's and the client's concurrency limiter when adaptive concurrency is enabled,
+         * only if both are available right away.
+         *
+         * @param client the client
+         * @return whether the request may be sent
+         */
+        boolean tryAcquirePermits(Client client) {
+            if (!client.isAdaptiveConcurrency() || isHealthProbe()) {
+                return true;
+            }
+
+            nodePermit = node.getConcurrencyLimiter().tryAcquire();
+            clientPermit = nodePermit != null ? client.getConcurrencyLimiter().tryAcquire() : null;
+
+            if (clientPermit == null) {
+                releasePermits(null, null);
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Asynchronously acquire permits from the node's and the client's concurrency limiter when adaptive
+         * concurrency is enabled. The node's permit is taken first, so a request waiting for a busy node does not
+         * hold a permit of the client.
+         * <p>
+         * The permits acquired before a failure are kept and must be released with {@link #releasePermits}.
+         *
+         * @param client    the client
+         * @param deadline  the deadline of the whole execution, the future fails with a {@link TimeoutException}
+         *                  when it expires while waiting
+         * @param execution the future of the execution, waiting stops once it is completed
+         * @return a future which completes once the request may be sent
+         */
+        CompletableFuture<Void> acquirePermitsAsync(Client client, Deadline deadline, CompletableFuture<?> execution) {
+            if (!client.isAdaptiveConcurrency() || isHealthProbe()) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            return awaitPermitAsync(node.getConcurrencyLimiter(), deadline, execution)
+                    .thenCompose(permit -> {
+                        nodePermit = permit;
+                        return awaitPermitAsync(client.getConcurrencyLimiter(), deadline, execution);
+                    })
+                    .thenAccept(permit -> clientPermit = permit);
+        }
+
+        private CompletableFuture<ConcurrencyLimiter.Permit> awaitPermitAsync(
+                ConcurrencyLimiter limiter, Deadline deadline, CompletableFuture<?> execution) {
+            var permit = limiter.acquire();
+            if (!permit.isDone()) {
+                // A waiter which timed out or was cancelled is skipped by the limiter
+                permit.orTimeout(deadline.timeRemaining(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+                execution.whenComplete((result, error) -> permit.cancel(false));
+            }
+            return permit;
+        }
+
+        /**
+         * Return the permits of this attempt, telling the limiters whether the node was overloaded.
+         *
+         * @param response the response, or {@code null} when the attempt failed
+         * @param error    the error the attempt failed with
+         */
+        void releasePermits(@Nullable ResponseT response, @Nullable Throwable error) {
+            var overloaded = (response != null && mapResponseStatus(response) == Status.BUSY)
+                    || (error instanceof StatusRuntimeException statusException
+                            && statusException.getStatus().getCode() == Code.RESOURCE_EXHAUSTED);
+
+            for (var permit : new ConcurrencyLimiter.Permit[] {clientPermit, nodePermit}) {
+                if (permit == null) {
+                    continue;
+                }
+
+                if (overloaded) {
+                    permit.overload();
+                } else if (response != null) {
+                    permit.success();
+                } else {
+                    permit.release();
+                }
+            }
+
+            clientPermit = null;
+            nodePermit = null;
+        }
+
         public long getDelay() {
             return delay;
         }
 
+        /**
+         * Notify the execution listener that the attempt waits before being sent.
+         *
+         * @param delayMillis the time waited in milliseconds
+         * @return the time waited in milliseconds
+         */
+        long reportBackoff(long delayMillis) {
+            if (delayMillis > 0) {
+                executionListener.onBackoff(
+                        getRequestType(), node.getAccountId(), attempt, Duration.ofMillis(delayMillis));
+            }
+            return delayMillis;
+        }
+
+        private String getRequestType() {
+            return Executable.this.getClass().getSimpleName();
+        }
+
         Throwable reactToConnectionFailure() {
+            executionListener.onConnectionFailure(getRequestType(), node.getAccountId(), attempt);
             Objects.requireNonNull(network).increaseBackoff(node);
             logger.warn(
                     "Retrying in {} ms after channel connection failure with node {} during attempt #{}",
@@ -945,10 +1704,19 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
         }
 
         boolean shouldRetryExceptionally(@Nullable Throwable e) {
-            latency = (double) (System.nanoTime() - startAt) / 1000000000.0;
+            var latencyNanos = getLatencyNanos();
+            latency = (double) latencyNanos / 1000000000.0;
 
             var retry = Executable.this.shouldRetryExceptionally(e);
 
+            executionListener.onAttemptFailed(
+                    getRequestType(),
+                    node.getAccountId(),
+                    attempt,
+                    Duration.ofNanos(latencyNanos),
+                    e instanceof StatusRuntimeException statusException ? statusException.getStatus() : null,
+                    retry);
+
             if (retry) {
                 Objects.requireNonNull(network).increaseBackoff(node);
                 logger.warn(
@@ -974,7 +1742,17 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
         }
 
         void handleResponse(ResponseT response, Status status, ExecutionState executionState) {
+            var latencyNanos = getLatencyNanos();
+            latency = (double) latencyNanos / 1000000000.0;
+
+            if (executionState == ExecutionState.SUCCESS) {
+                // Only a successful response shows that a node whose circuit is half-open recovered, not e.g. BUSY
+                node.closeHalfOpenCircuit();
+            }
             node.decreaseBackoff();
+            if (!isHealthProbe()) {
+                node.recordResponse(latencyNanos, status == Status.BUSY);
+            }
 
             this.response = Executable.this.responseListener.apply(response);
             this.responseStatus = status;
@@ -991,6 +1769,14 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
                 executionState = ExecutionState.RETRY;
                 attemptedAllNodes = false;
             }
+
+            executionListener.onAttemptEnd(
+                    getRequestType(),
+                    node.getAccountId(),
+                    attempt,
+                    Duration.ofNanos(latencyNanos),
+                    status,
+                    executionState);
             switch (executionState) {
                 case RETRY -> {
                     logger.warn(
@@ -1001,11 +1787,12 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
                             responseStatus);
                     verboseLog(node);
                 }
-                case SERVER_ERROR -> logger.warn(
-                        "Problem submitting request to node {} for attempt #{}, retry with new node: {}",
-                        node.getAccountId(),
-                        attempt,
-                        responseStatus);
+                case SERVER_ERROR ->
+                    logger.warn(
+                            "Problem submitting request to node {} for attempt #{}, retry with new node: {}",
+                            node.getAccountId(),
+                            attempt,
+                            responseStatus);
                 default -> {}
             }
         }
@@ -1026,4 +1813,23 @@ abstract class Executable<SdkRequestT, ProtoRequestT extends MessageLite, Respon
                     this.getClass().getSimpleName());
         }
     }
+
+    /**
+     * The request whose outcome is handled for an attempt, together with its response or error.
+     */
+    private final class Outcome {
+        private final GrpcRequest request;
+
+        @Nullable
+        private final ResponseT response;
+
+        @Nullable
+        private final Throwable error;
+
+        Outcome(GrpcRequest request, @Nullable ResponseT response, @Nullable Throwable error) {
+            this.request = request;
+            this.response = response;
+            this.error = error;
+        }
+    }
 }
@@ -0,0 +1,111 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import javax.annotation.Nullable;
+
+/**
+ * Receives events about the execution of transactions and queries, and about the health of the nodes in the
+ * network.
+ * <p>
+ * Register a listener with {@link Client#setExecutionListener(ExecutionListener)}. Callbacks are invoked on the
+ * thread that executes the request or on gRPC and executor threads, so implementations must be thread safe and must
+ * not block. All methods have empty default implementations.
+ * <p>
+ * {@link ExecutionMetrics} is a ready to use implementation which keeps per node counters and latency histograms.
+ */
+public interface ExecutionListener {
+    /**
+     * A listener which ignores every event.
+     */
+    ExecutionListener NOOP = new ExecutionListener() {};
+
+    /**
+     * Called when an attempt is about to be sent to a node.
+     *
+     * @param requestType               the simple class name of the transaction or query being executed
+     * @param nodeAccountId             the node chosen for the attempt
+     * @param attempt                   the attempt number, starting at 1
+     */
+    default void onAttemptStart(String requestType, AccountId nodeAccountId, int attempt) {}
+
+    /**
+     * Called when a node answered an attempt.
+     *
+     * @param requestType               the simple class name of the transaction or query being executed
+     * @param nodeAccountId             the node which answered
+     * @param attempt                   the attempt number, starting at 1
+     * @param latency                   the time between sending the request and receiving the response
+     * @param status                    the precheck status of the response
+     * @param executionState            how the execution proceeds after this response
+     */
+    default void onAttemptEnd(
+            String requestType,
+            AccountId nodeAccountId,
+            int attempt,
+            Duration latency,
+            Status status,
+            ExecutionState executionState) {}
+
+    /**
+     * Called when an attempt failed with an error instead of a response.
+     *
+     * @param requestType               the simple class name of the transaction or query being executed
+     * @param nodeAccountId             the node the attempt was sent to
+     * @param attempt                   the attempt number, starting at 1
+     * @param latency                   the time between sending the request and the failure
+     * @param grpcStatus                the gRPC status of the failure, or {@code null} when it is not a gRPC error
+     * @param willRetry                 whether the error is retried
+     */
+    default void onAttemptFailed(
+            String requestType,
+            AccountId nodeAccountId,
+            int attempt,
+            Duration latency,
+            @Nullable io.grpc.Status grpcStatus,
+            boolean willRetry) {}
+
+    /**
+     * Called when the channel to a node could not be connected. The attempt is not sent, so no
+     * {@link #onAttemptStart} precedes this event.
+     *
+     * @param requestType               the simple class name of the transaction or query being executed
+     * @param nodeAccountId             the node which failed to connect
+     * @param attempt                   the attempt number, starting at 1
+     */
+    default void onConnectionFailure(String requestType, AccountId nodeAccountId, int attempt) {}
+
+    /**
+     * Called when execution waits before the next attempt, either because the chosen node is backing off or
+     * because the previous attempt asked to be retried.
+     *
+     * @param requestType               the simple class name of the transaction or query being executed
+     * @param nodeAccountId             the node of the attempt which waits
+     * @param attempt                   the attempt number, starting at 1
+     * @param delay                     the time waited
+     */
+    default void onBackoff(String requestType, AccountId nodeAccountId, int attempt, Duration delay) {}
+
+    /**
+     * Called when a node is removed from the healthy nodes of the network after a failure.
+     *
+     * @param nodeAccountId             the node
+     * @param backoff                   the time until the node may be used again
+     */
+    default void onNodeBackoff(AccountId nodeAccountId, Duration backoff) {}
+
+    /**
+     * Called when a node is readmitted to the healthy nodes of the network.
+     *
+     * @param nodeAccountId             the node
+     */
+    default void onNodeReadmitted(AccountId nodeAccountId) {}
+
+    /**
+     * Called when a request fails instead of being retried because its {@link RetryBudget} is exhausted.
+     *
+     * @param requestType               the simple class name of the transaction or query being executed
+     * @param attempt                   the attempt which was not made
+     */
+    default void onRetryBudgetExhausted(String requestType, int attempt) {}
+}
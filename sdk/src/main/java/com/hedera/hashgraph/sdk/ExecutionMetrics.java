@@ -0,0 +1,273 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+
+/**
+ * An {@link ExecutionListener} which keeps lock-free counters and latency histograms for every node.
+ * <p>
+ * Recording an event only touches per node {@link LongAdder}s and atomic histogram buckets, so the metrics can stay
+ * enabled in production. Read them at any time to find slow nodes or retry storms:
+ * <pre>{@code
+ * var metrics = new ExecutionMetrics();
+ * client.setExecutionListener(metrics);
+ * ...
+ * metrics.getNodeMetrics().forEach((node, m) -> System.out.println(node + " p99=" + m.getLatency().getPercentile(99)));
+ * }</pre>
+ */
+public final class ExecutionMetrics implements ExecutionListener {
+    private final ConcurrentHashMap<AccountId, NodeMetrics> nodes = new ConcurrentHashMap<>();
+    private final LongAdder retryBudgetExhausted = new LongAdder();
+
+    /**
+     * Constructor.
+     */
+    public ExecutionMetrics() {}
+
+    /**
+     * Extract the metrics of every node which has seen at least one event.
+     *
+     * @return                          an unmodifiable live view of the metrics by node account ID
+     */
+    public Map<AccountId, NodeMetrics> getNodeMetrics() {
+        return Collections.unmodifiableMap(nodes);
+    }
+
+    /**
+     * Extract the metrics of a node.
+     *
+     * @param nodeAccountId             the node account ID
+     * @return                          the metrics, or {@code null} when the node has not seen any event
+     */
+    @Nullable
+    public NodeMetrics getNodeMetrics(AccountId nodeAccountId) {
+        return nodes.get(nodeAccountId);
+    }
+
+    /**
+     * Extract the number of requests which failed because their retry budget was exhausted.
+     *
+     * @return                          the number of requests
+     */
+    public long getRetryBudgetExhausted() {
+        return retryBudgetExhausted.sum();
+    }
+
+    private NodeMetrics forNode(AccountId nodeAccountId) {
+        var metrics = nodes.get(nodeAccountId);
+        return metrics != null ? metrics : nodes.computeIfAbsent(nodeAccountId, id -> new NodeMetrics());
+    }
+
+    @Override
+    public void onAttemptStart(String requestType, AccountId nodeAccountId, int attempt) {
+        var metrics = forNode(nodeAccountId);
+        metrics.attempts.increment();
+        if (attempt > 1) {
+            metrics.retries.increment();
+        }
+    }
+
+    @Override
+    public void onAttemptEnd(
+            String requestType,
+            AccountId nodeAccountId,
+            int attempt,
+            Duration latency,
+            Status status,
+            ExecutionState executionState) {
+        var metrics = forNode(nodeAccountId);
+        metrics.latency.record(latency);
+
+        switch (executionState) {
+            case SUCCESS -> metrics.successes.increment();
+            case RETRY -> {
+                if (status == Status.BUSY) {
+                    metrics.busy.increment();
+                }
+            }
+            case SERVER_ERROR -> metrics.serverErrors.increment();
+            case REQUEST_ERROR -> metrics.requestErrors.increment();
+        }
+    }
+
+    @Override
+    public void onAttemptFailed(
+            String requestType,
+            AccountId nodeAccountId,
+            int attempt,
+            Duration latency,
+            @Nullable io.grpc.Status grpcStatus,
+            boolean willRetry) {
+        forNode(nodeAccountId).grpcErrors.increment();
+    }
+
+    @Override
+    public void onConnectionFailure(String requestType, AccountId nodeAccountId, int attempt) {
+        forNode(nodeAccountId).connectionFailures.increment();
+    }
+
+    @Override
+    public void onBackoff(String requestType, AccountId nodeAccountId, int attempt, Duration delay) {
+        var metrics = forNode(nodeAccountId);
+        metrics.backoffs.increment();
+        metrics.backoffMillis.add(delay.toMillis());
+    }
+
+    @Override
+    public void onNodeBackoff(AccountId nodeAccountId, Duration backoff) {
+        forNode(nodeAccountId).markedUnhealthy.increment();
+    }
+
+    @Override
+    public void onNodeReadmitted(AccountId nodeAccountId) {
+        forNode(nodeAccountId).readmissions.increment();
+    }
+
+    @Override
+    public void onRetryBudgetExhausted(String requestType, int attempt) {
+        retryBudgetExhausted.increment();
+    }
+
+    /**
+     * The counters and latency histogram of a single node.
+     */
+    public static final class NodeMetrics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder busy = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder requestErrors = new LongAdder();
+        private final LongAdder grpcErrors = new LongAdder();
+        private final LongAdder connectionFailures = new LongAdder();
+        private final LongAdder backoffs = new LongAdder();
+        private final LongAdder backoffMillis = new LongAdder();
+        private final LongAdder markedUnhealthy = new LongAdder();
+        private final LongAdder readmissions = new LongAdder();
+
+        NodeMetrics() {}
+
+        /**
+         * Extract the histogram of the latencies of the responses of the node.
+         *
+         * @return                      the latency histogram
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        /**
+         * Extract the number of attempts sent to the node.
+         *
+         * @return                      the number of attempts
+         */
+        public long getAttempts() {
+            return attempts.sum();
+        }
+
+        /**
+         * Extract the number of attempts sent to the node which were not the first attempt of their request.
+         *
+         * @return                      the number of retries
+         */
+        public long getRetries() {
+            return retries.sum();
+        }
+
+        /**
+         * Extract the number of successful responses.
+         *
+         * @return                      the number of successful responses
+         */
+        public long getSuccesses() {
+            return successes.sum();
+        }
+
+        /**
+         * Extract the number of {@link Status#BUSY} responses.
+         *
+         * @return                      the number of busy responses
+         */
+        public long getBusy() {
+            return busy.sum();
+        }
+
+        /**
+         * Extract the number of responses which caused a retry with another node.
+         *
+         * @return                      the number of server errors
+         */
+        public long getServerErrors() {
+            return serverErrors.sum();
+        }
+
+        /**
+         * Extract the number of responses with a non-retryable precheck status.
+         *
+         * @return                      the number of request errors
+         */
+        public long getRequestErrors() {
+            return requestErrors.sum();
+        }
+
+        /**
+         * Extract the number of attempts which failed with an error instead of a response.
+         *
+         * @return                      the number of gRPC errors
+         */
+        public long getGrpcErrors() {
+            return grpcErrors.sum();
+        }
+
+        /**
+         * Extract the number of times the channel to the node failed to connect.
+         *
+         * @return                      the number of connection failures
+         */
+        public long getConnectionFailures() {
+            return connectionFailures.sum();
+        }
+
+        /**
+         * Extract the number of times execution waited before an attempt on the node.
+         *
+         * @return                      the number of backoffs
+         */
+        public long getBackoffs() {
+            return backoffs.sum();
+        }
+
+        /**
+         * Extract the total time execution waited before attempts on the node.
+         *
+         * @return                      the total backoff time
+         */
+        public Duration getTotalBackoff() {
+            return Duration.ofMillis(backoffMillis.sum());
+        }
+
+        /**
+         * Extract the number of times the node was removed from the healthy nodes.
+         *
+         * @return                      the number of times the node was marked unhealthy
+         */
+        public long getMarkedUnhealthy() {
+            return markedUnhealthy.sum();
+        }
+
+        /**
+         * Extract the number of times the node was readmitted to the healthy nodes.
+         *
+         * @return                      the number of readmissions
+         */
+        public long getReadmissions() {
+            return readmissions.sum();
+        }
+    }
+}
@@ -0,0 +1,302 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link Timer} which keeps its tasks in a hashed wheel of buckets.
+ * <p>
+ * Scheduling and cancelling a task are O(1): a task is appended to a lock-free queue and moved into the bucket of
+ * its tick by the worker thread, and a cancelled task is unlinked from its bucket on the next tick. Once per tick the
+ * worker runs the tasks of a single bucket which are due. Tasks therefore fire up to one tick late, which is
+ * irrelevant for backoff delays of tens or hundreds of milliseconds, and a very large number of them costs no more than
+ * their memory.
+ * <p>
+ * The worker thread is a daemon thread started with the first scheduled task.
+ */
+public final class HashedWheelTimer implements Timer {
+    static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+    static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_CLOSED = 2;
+
+    // Bounds the time a tick spends moving new tasks into buckets when they arrive faster than they are transferred
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime = System.nanoTime();
+    private final Queue<Entry> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Entry> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final AtomicLong pending = new AtomicLong();
+    private final Thread worker;
+
+    /**
+     * Constructor with a tick of 10 ms and 512 buckets.
+     */
+    public HashedWheelTimer() {
+        this(DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tickDuration              the resolution of the timer
+     * @param ticksPerWheel             the number of buckets, rounded up to a power of two
+     */
+    public HashedWheelTimer(Duration tickDuration, int ticksPerWheel) {
+        if (tickDuration.isNegative() || tickDuration.toNanos() < TimeUnit.MILLISECONDS.toNanos(1)) {
+            throw new IllegalArgumentException("tickDuration must be at least 1 ms");
+        }
+
+        if (ticksPerWheel < 1 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("ticksPerWheel must be between 1 and 2^30");
+        }
+
+        var size = Integer.highestOneBit(ticksPerWheel);
+        if (size < ticksPerWheel) {
+            size <<= 1;
+        }
+
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new Bucket[size];
+        this.mask = size - 1;
+
+        for (var i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+
+        this.worker = new Thread(this::work, "hedera-sdk-timer");
+        this.worker.setDaemon(true);
+    }
+
+    @Override
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (state.get() == STATE_INIT) {
+            if (state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+                worker.start();
+            }
+        }
+
+        if (state.get() == STATE_CLOSED) {
+            throw new RejectedExecutionException("timer was closed");
+        }
+
+        // Saturate instead of overflowing for delays of centuries
+        var deadline = System.nanoTime() - startTime + Math.min(Math.max(0, unit.toNanos(delay)), Long.MAX_VALUE / 2);
+        var entry = new Entry(task, deadline);
+
+        pending.incrementAndGet();
+        scheduled.add(entry);
+
+        return entry;
+    }
+
+    @Override
+    public void close() {
+        if (state.getAndSet(STATE_CLOSED) == STATE_STARTED) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * Extract the number of tasks which have neither run nor been removed after being cancelled.
+     *
+     * @return                          the number of pending tasks
+     */
+    @Override
+    public long pendingTimeouts() {
+        return pending.get();
+    }
+
+    private void work() {
+        var tick = (System.nanoTime() - startTime) / tickNanos;
+
+        while (state.get() == STATE_STARTED) {
+            var tickDeadline = (tick + 1) * tickNanos;
+            var sleepNanos = tickDeadline - (System.nanoTime() - startTime);
+
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+
+            removeCancelled();
+            transferScheduled(tick);
+            wheel[(int) (tick & mask)].expire(tickDeadline);
+            tick++;
+        }
+    }
+
+    private void removeCancelled() {
+        for (var entry = cancelled.poll(); entry != null; entry = cancelled.poll()) {
+            var bucket = entry.bucket;
+
+            // Entries cancelled before they reached a bucket are dropped by transferScheduled
+            if (bucket != null) {
+                bucket.remove(entry);
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+    private void transferScheduled(long tick) {
+        for (var i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            var entry = scheduled.poll();
+            if (entry == null) {
+                return;
+            }
+
+            if (entry.isCancelled()) {
+                pending.decrementAndGet();
+                continue;
+            }
+
+            var ticks = entry.deadline / tickNanos;
+            entry.remainingRounds = (ticks - tick) / wheel.length;
+
+            // A task which is already due goes into the current bucket so it runs on this tick
+            wheel[(int) (Math.max(ticks, tick) & mask)].add(entry);
+        }
+    }
+
+    /**
+     * A doubly linked list of the entries which fall on the same tick, only touched by the worker thread.
+     */
+    private final class Bucket {
+        @Nullable
+        private Entry head;
+
+        @Nullable
+        private Entry tail;
+
+        void add(Entry entry) {
+            entry.bucket = this;
+
+            if (head == null) {
+                head = tail = entry;
+            } else {
+                tail.next = entry;
+                entry.prev = tail;
+                tail = entry;
+            }
+        }
+
+        void expire(long tickDeadline) {
+            var entry = head;
+
+            while (entry != null) {
+                var next = entry.next;
+
+                if (entry.remainingRounds > 0) {
+                    entry.remainingRounds--;
+                } else if (entry.deadline <= tickDeadline) {
+                    remove(entry);
+                    pending.decrementAndGet();
+                    entry.expire();
+                }
+
+                entry = next;
+            }
+        }
+
+        void remove(Entry entry) {
+            var next = entry.next;
+
+            if (entry.prev != null) {
+                entry.prev.next = next;
+            }
+
+            if (next != null) {
+                next.prev = entry.prev;
+            }
+
+            if (entry == head) {
+                head = next;
+            }
+
+            if (entry == tail) {
+                tail = entry.prev;
+            }
+
+            entry.prev = null;
+            entry.next = null;
+            entry.bucket = null;
+        }
+    }
+
+    private final class Entry implements Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger entryState = new AtomicInteger(PENDING);
+
+        // Only accessed by the worker thread
+        private long remainingRounds;
+
+        @Nullable
+        private Bucket bucket;
+
+        @Nullable
+        private Entry prev;
+
+        @Nullable
+        private Entry next;
+
+        Entry(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!entryState.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+
+            cancelled.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return entryState.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return entryState.get() == EXPIRED;
+        }
+
+        void expire() {
+            if (!entryState.compareAndSet(PENDING, EXPIRED)) {
+                return;
+            }
+
+            try {
+                task.run();
+            } catch (Throwable error) {
+                logger.warn("timer task threw an exception", error);
+            }
+        }
+    }
+}
@@ -10,6 +10,8 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 import javax.net.ssl.X509TrustManager;
 import org.bouncycastle.util.encoders.Hex;
@@ -25,11 +27,23 @@ class HederaTrustManager implements X509TrustManager {
     private static final String CERTIFICATE = "CERTIFICATE";
     private static final String PEM_HEADER = "-----BEGIN CERTIFICATE-----\n";
     private static final String PEM_FOOTER = "-----END CERTIFICATE-----\n";
+
+    /**
+     * Bounds the cache of verified certificates, a node rarely presents more than one
+     */
+    private static final int MAX_VERIFIED_CERTIFICATES = 16;
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     @Nullable
     private final String certHash;
 
+    /**
+     * The DER encodings of the certificates which matched {@link #certHash}. A trust manager is shared by all the
+     * channels of a node, so reconnects skip the PEM encoding and hashing of an already verified certificate.
+     */
+    private final Set<ByteString> verifiedCertificates = ConcurrentHashMap.newKeySet();
+
     /**
      * Constructor.
      *
@@ -63,11 +77,18 @@ class HederaTrustManager implements X509TrustManager {
         }
 
         for (var cert : chain) {
+            var encoded = cert.getEncoded();
+            var der = ByteString.copyFrom(encoded);
+
+            if (verifiedCertificates.contains(der)) {
+                return;
+            }
+
             byte[] pem;
 
             try (var outputStream = new ByteArrayOutputStream();
                     var pemWriter = new PemWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
-                pemWriter.writeObject(new PemObject(CERTIFICATE, cert.getEncoded()));
+                pemWriter.writeObject(new PemObject(CERTIFICATE, encoded));
                 pemWriter.flush();
 
                 pem = outputStream.toByteArray();
@@ -85,6 +106,11 @@ class HederaTrustManager implements X509TrustManager {
             }
 
             if (this.certHash.equals(Hex.toHexString(certHashBytes))) {
+                if (verifiedCertificates.size() >= MAX_VERIFIED_CERTIFICATES) {
+                    verifiedCertificates.clear();
+                }
+
+                verifiedCertificates.add(der);
                 return;
             }
         }
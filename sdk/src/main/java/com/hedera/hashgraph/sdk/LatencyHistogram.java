@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies.
+ * <p>
+ * Latencies are recorded in microseconds into log-linear buckets: every power of two is split into four buckets, so
+ * the reported percentiles are at most 25% above the true value. Latencies of 2<sup>33</sup> microseconds (about 143
+ * minutes) and above are recorded in the last bucket.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 32;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+
+    LatencyHistogram() {}
+
+    /**
+     * Record a latency.
+     *
+     * @param latency                   the latency
+     */
+    void record(Duration latency) {
+        var micros = Math.max(0, latency.toNanos() / 1000);
+
+        counts.incrementAndGet(bucketOf(micros));
+        count.increment();
+        totalMicros.add(micros);
+    }
+
+    /**
+     * Extract the number of recorded latencies.
+     *
+     * @return                          the number of recorded latencies
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Extract the mean of the recorded latencies.
+     *
+     * @return                          the mean latency, or zero when nothing was recorded
+     */
+    public Duration getMean() {
+        var n = count.sum();
+        return n == 0 ? Duration.ZERO : Duration.ofNanos(totalMicros.sum() * 1000 / n);
+    }
+
+    /**
+     * Extract an upper bound for the latency below which the given share of the recorded latencies fall.
+     *
+     * @param percentile                the percentile between 0 and 100, e.g. {@code 99.0}
+     * @return                          the latency, or zero when nothing was recorded
+     */
+    public Duration getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+
+        long total = 0;
+        var snapshot = new long[BUCKETS];
+        for (var i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        var rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (var i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Duration.ofNanos(upperBoundOf(i) * 1000);
+            }
+        }
+
+        return Duration.ofNanos(upperBoundOf(BUCKETS - 1) * 1000);
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+
+        var exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+
+        var subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        var exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        var subBucket = bucket % SUB_BUCKETS;
+        var width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * width - 1;
+    }
+}
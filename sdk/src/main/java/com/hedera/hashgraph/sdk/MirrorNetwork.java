@@ -68,12 +68,18 @@ class MirrorNetwork extends BaseNetwork<MirrorNetwork, BaseNodeAddress, MirrorNo
      *
      * @return the network names
      */
-    synchronized List<String> getNetwork() {
-        List<String> retval = new ArrayList<>(network.size());
-        for (var address : network.keySet()) {
-            retval.add(address.toString());
+    List<String> getNetwork() {
+        lock.lock();
+        try {
+            var network = snapshot.network;
+            List<String> retval = new ArrayList<>(network.size());
+            for (var address : network.keySet()) {
+                retval.add(address.toString());
+            }
+            return retval;
+        } finally {
+            lock.unlock();
         }
-        return retval;
     }
 
     /**
@@ -84,7 +90,7 @@ class MirrorNetwork extends BaseNetwork<MirrorNetwork, BaseNodeAddress, MirrorNo
      * @throws TimeoutException     when the transaction times out
      * @throws InterruptedException when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
      */
-    synchronized MirrorNetwork setNetwork(List<String> network) throws TimeoutException, InterruptedException {
+    MirrorNetwork setNetwork(List<String> network) throws TimeoutException, InterruptedException {
         var map = new HashMap<String, BaseNodeAddress>(network.size());
         for (var address : network) {
             map.put(address, BaseNodeAddress.fromString(address));
@@ -103,7 +109,7 @@ class MirrorNetwork extends BaseNetwork<MirrorNetwork, BaseNodeAddress, MirrorNo
      * @return the next healthy mirror node on the list
      * @throws InterruptedException when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
      */
-    synchronized MirrorNode getNextMirrorNode() throws InterruptedException {
+    MirrorNode getNextMirrorNode() throws InterruptedException {
         return getNumberOfMostHealthyNodes(1).get(0);
     }
 
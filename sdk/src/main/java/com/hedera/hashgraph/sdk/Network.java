@@ -4,13 +4,16 @@ package com.hedera.hashgraph.sdk;
 import com.google.common.io.ByteStreams;
 import com.google.protobuf.ByteString;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -21,7 +24,7 @@ import javax.annotation.Nullable;
  */
 class Network extends BaseNetwork<Network, AccountId, Node> {
     @Nullable
-    private Integer maxNodesPerRequest;
+    private volatile Integer maxNodesPerRequest;
 
     /**
      * The protobuf address book converted into a map of node account IDs to NodeAddress
@@ -33,6 +36,16 @@ class Network extends BaseNetwork<Network, AccountId, Node> {
 
     private boolean verifyCertificates = true;
 
+    private volatile ExecutionListener executionListener = ExecutionListener.NOOP;
+
+    /**
+     * Sends a probe to a node whose circuit is half-open, or {@code null} to readmit nodes without probing them
+     */
+    @Nullable
+    private volatile Function<Node, CompletableFuture<Void>> healthProbe;
+
+    private volatile Timer timer = Delayer.SHARED_TIMER;
+
     private Network(ExecutorService executor, Map<String, AccountId> network) {
         super(executor);
 
@@ -108,19 +121,29 @@ class Network extends BaseNetwork<Network, AccountId, Node> {
      * @param verifyCertificates        the desired status
      * @return {@code this}
      */
-    synchronized Network setVerifyCertificates(boolean verifyCertificates) {
-        this.verifyCertificates = verifyCertificates;
+    Network setVerifyCertificates(boolean verifyCertificates) {
+        lock.lock();
+        try {
+            this.verifyCertificates = verifyCertificates;
 
-        for (var node : nodes) {
-            node.setVerifyCertificates(verifyCertificates);
-        }
+            for (var node : snapshot.nodes) {
+                node.setVerifyCertificates(verifyCertificates);
+            }
 
-        return this;
+            return this;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
-    synchronized Network setLedgerId(@Nullable LedgerId ledgerId) {
-        return setLedgerIdInternal(ledgerId, getAddressBookForLedger(ledgerId));
+    Network setLedgerId(@Nullable LedgerId ledgerId) {
+        lock.lock();
+        try {
+            return setLedgerIdInternal(ledgerId, getAddressBookForLedger(ledgerId));
+        } finally {
+            lock.unlock();
+        }
     }
 
     private Network setLedgerIdInternal(
@@ -128,7 +151,7 @@ class Network extends BaseNetwork<Network, AccountId, Node> {
         super.setLedgerId(ledgerId);
 
         this.addressBook = addressBook;
-        for (var node : nodes) {
+        for (var node : snapshot.nodes) {
             node.setAddressBookEntry(addressBook == null ? null : addressBook.get(node.getAccountId()));
         }
 
@@ -170,7 +193,7 @@ class Network extends BaseNetwork<Network, AccountId, Node> {
             }
         }
         this.addressBook = newAddressBook;
-        for (var node : nodes) {
+        for (var node : snapshot.nodes) {
             node.setAddressBookEntry(this.addressBook.get(node.getAccountId()));
         }
     }
@@ -224,12 +247,118 @@ class Network extends BaseNetwork<Network, AccountId, Node> {
      *
      * @return                          list of network records
      */
-    synchronized Map<String, AccountId> getNetwork() {
-        Map<String, AccountId> returnMap = new HashMap<>();
-        for (var node : nodes) {
-            returnMap.put(node.address.toString(), node.getAccountId());
+    Map<String, AccountId> getNetwork() {
+        lock.lock();
+        try {
+            Map<String, AccountId> returnMap = new HashMap<>();
+            for (var node : snapshot.nodes) {
+                returnMap.put(node.address.toString(), node.getAccountId());
+            }
+            return returnMap;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Extract the listener notified about node health changes.
+     *
+     * @return                          the execution listener
+     */
+    ExecutionListener getExecutionListener() {
+        return executionListener;
+    }
+
+    /**
+     * Assign the listener notified about node health changes.
+     *
+     * @param executionListener         the execution listener
+     * @return {@code this}
+     */
+    Network setExecutionListener(ExecutionListener executionListener) {
+        this.executionListener = Objects.requireNonNull(executionListener);
+        return this;
+    }
+
+    /**
+     * Assign the probe sent to nodes whose backoff has passed before they are readmitted.
+     *
+     * @param healthProbe               the probe, or {@code null} to readmit nodes when their backoff has passed
+     * @return {@code this}
+     */
+    Network setHealthProbe(@Nullable Function<Node, CompletableFuture<Void>> healthProbe) {
+        this.healthProbe = healthProbe;
+        return this;
+    }
+
+    /**
+     * Assign the timer on which node probes are scheduled.
+     *
+     * @param timer                     the timer
+     * @return {@code this}
+     */
+    Network setTimer(Timer timer) {
+        this.timer = Objects.requireNonNull(timer);
+        return this;
+    }
+
+    @Override
+    protected void onNodeBackoff(Node node) {
+        var backoff = Math.max(0, node.getRemainingTimeForBackoff());
+        executionListener.onNodeBackoff(node.getAccountId(), Duration.ofMillis(backoff));
+
+        if (healthProbe != null) {
+            // Probe the node as soon as its backoff passed, rather than waiting for a request to readmit it
+            try {
+                Delayer.runAfter(backoff, timer, executor, () -> {
+                    if (containsNode(snapshot.nodes, node)) {
+                        startProbe(node);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // The timer was closed, the node is readmitted by the next request instead
+            }
         }
-        return returnMap;
+    }
+
+    @Override
+    protected boolean startProbe(Node node) {
+        var probe = healthProbe;
+        if (probe == null) {
+            return false;
+        }
+
+        if (node.tryHalfOpen()) {
+            try {
+                CompletableFuture.supplyAsync(() -> probe.apply(node), executor)
+                        .thenCompose(Function.identity())
+                        .whenComplete((ignored, error) -> onProbeComplete(node));
+            } catch (RejectedExecutionException e) {
+                // The client is closing, there is no point in readmitting the node
+            }
+        }
+
+        return node.getCircuitState() != Node.CircuitState.CLOSED;
+    }
+
+    /**
+     * Readmit the node when the probe closed its circuit, otherwise back off again.
+     *
+     * @param node                      the probed node
+     */
+    private void onProbeComplete(Node node) {
+        switch (node.getCircuitState()) {
+            case CLOSED -> readmitNode(node);
+            // The probe did not succeed, e.g. it timed out or the node was busy
+            case HALF_OPEN -> increaseBackoff(node);
+            // A bad gRPC status already backed off the node and scheduled the next probe
+            case OPEN -> {}
+        }
+    }
+
+    @Override
+    protected void onNodeReadmitted(Node node) {
+        executionListener.onNodeReadmitted(node.getAccountId());
     }
 
     @Override
@@ -246,7 +375,7 @@ class Network extends BaseNetwork<Network, AccountId, Node> {
      *
      * @return {@link java.util.List<com.hedera.hashgraph.sdk.AccountId>}
      */
-    synchronized List<AccountId> getNodeAccountIdsForExecute() throws InterruptedException {
+    List<AccountId> getNodeAccountIdsForExecute() throws InterruptedException {
         var nodes = getNumberOfMostHealthyNodes(getNumberOfNodesForRequest());
         var nodeAccountIds = new ArrayList<AccountId>(nodes.size());
 
@@ -275,19 +404,9 @@ class Network extends BaseNetwork<Network, AccountId, Node> {
      */
     int getNumberOfNodesForRequest() {
         if (maxNodesPerRequest != null) {
-            return Math.min(maxNodesPerRequest, network.size());
+            return Math.min(maxNodesPerRequest, snapshot.network.size());
         } else {
-            return (network.size() + 3 - 1) / 3;
-        }
-    }
-
-    private List<Node> getNodesForKey(AccountId key) {
-        if (network.containsKey(key)) {
-            return network.get(key);
-        } else {
-            var newList = new ArrayList<Node>();
-            network.put(key, newList);
-            return newList;
+            return (snapshot.network.size() + 3 - 1) / 3;
         }
     }
 
@@ -298,24 +417,35 @@ class Network extends BaseNetwork<Network, AccountId, Node> {
      * @return {@code this}
      * @throws InterruptedException     when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
      */
-    synchronized Network setTransportSecurity(boolean transportSecurity) throws InterruptedException {
-        if (this.transportSecurity != transportSecurity) {
-            network.clear();
+    Network setTransportSecurity(boolean transportSecurity) throws InterruptedException {
+        var oldNodes = new ArrayList<Node>();
 
-            for (int i = 0; i < nodes.size(); i++) {
-                var node = nodes.get(i);
-                node.close(closeTimeout);
+        lock.lock();
+        try {
+            var nodes = new ArrayList<>(snapshot.nodes);
 
-                node = transportSecurity ? node.toSecure() : node.toInsecure();
+            if (this.transportSecurity != transportSecurity) {
+                for (int i = 0; i < nodes.size(); i++) {
+                    var node = nodes.get(i);
+                    oldNodes.add(node);
 
-                nodes.set(i, node);
-                getNodesForKey(node.getKey()).add(node);
+                    node = transportSecurity ? node.toSecure() : node.toInsecure();
+
+                    nodes.set(i, node);
+                }
             }
-        }
 
-        healthyNodes = new ArrayList<>(nodes);
+            snapshot = Snapshot.of(nodes, nodes);
+
+            this.transportSecurity = transportSecurity;
+        } finally {
+            lock.unlock();
+        }
 
-        this.transportSecurity = transportSecurity;
+        // The replaced nodes finish their calls in flight, without blocking the caller or requests fetching nodes
+        for (var node : oldNodes) {
+            closeInBackground(node);
+        }
 
         return this;
     }
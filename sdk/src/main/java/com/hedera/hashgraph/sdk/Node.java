@@ -1,8 +1,10 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.hashgraph.sdk;
 
+import com.google.protobuf.ByteString;
 import io.grpc.ChannelCredentials;
 import io.grpc.TlsChannelCredentials;
+import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import javax.annotation.Nullable;
 
@@ -19,6 +21,18 @@ class Node extends BaseNode<Node, AccountId> {
 
     private boolean verifyCertificates;
 
+    /**
+     * The TLS credentials shared by all channels of this node, and with them the {@link HederaTrustManager} which
+     * remembers the certificates it verified. Dropped when the cert hash or the verification setting change.
+     */
+    @Nullable
+    private volatile ChannelCredentials channelCredentials;
+
+    /**
+     * The adaptive limit on requests in flight to this node, shared by the secure and insecure versions of the node
+     */
+    private final ConcurrencyLimiter concurrencyLimiter;
+
     /**
      * Constructor.
      *
@@ -30,6 +44,8 @@ class Node extends BaseNode<Node, AccountId> {
         super(address, executor);
 
         this.accountId = accountId;
+        this.concurrencyLimiter = new ConcurrencyLimiter(
+                Client.DEFAULT_NODE_CONCURRENCY_LIMIT, 1, Client.DEFAULT_MAX_NODE_CONCURRENCY_LIMIT);
     }
 
     /**
@@ -54,6 +70,8 @@ class Node extends BaseNode<Node, AccountId> {
         this.accountId = node.accountId;
         this.verifyCertificates = node.verifyCertificates;
         this.addressBookEntry = node.addressBookEntry;
+        this.concurrencyLimiter = node.concurrencyLimiter;
+        this.channelCredentials = node.channelCredentials;
     }
 
     /**
@@ -88,6 +106,15 @@ class Node extends BaseNode<Node, AccountId> {
         return accountId;
     }
 
+    /**
+     * Extract the adaptive concurrency limiter of this node.
+     *
+     * @return                          the concurrency limiter
+     */
+    ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
     /**
      * Extract the address book.
      *
@@ -104,6 +131,10 @@ class Node extends BaseNode<Node, AccountId> {
      * @return {@code this}
      */
     Node setAddressBookEntry(@Nullable NodeAddress addressBookEntry) {
+        if (!Objects.equals(getCertHash(this.addressBookEntry), getCertHash(addressBookEntry))) {
+            channelCredentials = null;
+        }
+
         this.addressBookEntry = addressBookEntry;
         return this;
     }
@@ -124,16 +155,31 @@ class Node extends BaseNode<Node, AccountId> {
      * @return {@code this}
      */
     Node setVerifyCertificates(boolean verifyCertificates) {
+        if (this.verifyCertificates != verifyCertificates) {
+            channelCredentials = null;
+        }
+
         this.verifyCertificates = verifyCertificates;
         return this;
     }
 
+    @Nullable
+    private static ByteString getCertHash(@Nullable NodeAddress addressBookEntry) {
+        return addressBookEntry == null ? null : addressBookEntry.certHash;
+    }
+
     @Override
     ChannelCredentials getChannelCredentials() {
-        return TlsChannelCredentials.newBuilder()
-                .trustManager(new HederaTrustManager(
-                        addressBookEntry == null ? null : addressBookEntry.certHash, verifyCertificates))
-                .build();
+        var credentials = channelCredentials;
+
+        if (credentials == null) {
+            credentials = TlsChannelCredentials.newBuilder()
+                    .trustManager(new HederaTrustManager(getCertHash(addressBookEntry), verifyCertificates))
+                    .build();
+            channelCredentials = credentials;
+        }
+
+        return credentials;
     }
 
     @Override
@@ -0,0 +1,48 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Enum for the strategies used to pick the nodes a request is sent to.
+ */
+public enum NodeSelectionStrategy {
+    /**
+     * Pick uniformly at random among the healthy nodes.
+     */
+    RANDOM {
+        @Override
+        <N extends BaseNode<N, ?>> N select(List<N> nodes, Random random) {
+            return nodes.get(random.nextInt(nodes.size()));
+        }
+    },
+    /**
+     * Pick two healthy nodes at random and use the one with the lower selection score, which is derived from the
+     * node's moving average of round-trip latency and its rate of {@link Status#BUSY} responses.
+     * <p>
+     * Faster nodes receive a larger share of the traffic while slow nodes are still sampled often enough for their
+     * score to recover.
+     */
+    POWER_OF_TWO_CHOICES {
+        @Override
+        <N extends BaseNode<N, ?>> N select(List<N> nodes, Random random) {
+            var first = nodes.get(random.nextInt(nodes.size()));
+            if (nodes.size() == 1) {
+                return first;
+            }
+
+            var second = nodes.get(random.nextInt(nodes.size()));
+            return second.getSelectionScore() < first.getSelectionScore() ? second : first;
+        }
+    };
+
+    /**
+     * Pick one node from a non-empty list of candidates.
+     *
+     * @param nodes                     the candidate nodes
+     * @param random                    the source of randomness
+     * @return                          the selected node
+     */
+    abstract <N extends BaseNode<N, ?>> N select(List<N> nodes, Random random);
+}
@@ -372,7 +372,7 @@ public abstract class PrivateKey extends Key {
             transaction.freeze();
         }
 
-        var builder = transaction.innerSignedTransactions.get(0);
+        var builder = transaction.getInnerSignedTransaction(0);
         var signature = sign(builder.getBodyBytes().toByteArray());
 
         transaction.addSignature(getPublicKey(), signature);
@@ -30,6 +30,12 @@ public class PrivateKeyECDSA extends PrivateKey {
 
     private final BigInteger keyData;
 
+    /**
+     * The validated key parameters, created on first use. Racing threads create equal parameters.
+     */
+    @Nullable
+    private volatile ECPrivateKeyParameters keyParameters;
+
     @Nullable
     private final KeyParameter chainCode;
 
@@ -235,7 +241,7 @@ public class PrivateKeyECDSA extends PrivateKey {
         var hash = Crypto.calcKeccak256(message);
 
         var signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
-        signer.init(true, new ECPrivateKeyParameters(keyData, ECDSA_SECP256K1_DOMAIN));
+        signer.init(true, getKeyParameters());
         BigInteger[] bigSig = signer.generateSignature(hash);
 
         byte[] sigBytes = Arrays.copyOf(bigIntTo32Bytes(bigSig[0]), 64);
@@ -244,6 +250,21 @@ public class PrivateKeyECDSA extends PrivateKey {
         return sigBytes;
     }
 
+    /**
+     * Extract the key parameters, which are validated and created once per key.
+     *
+     * @return                          the key parameters
+     */
+    private ECPrivateKeyParameters getKeyParameters() {
+        var parameters = keyParameters;
+        if (parameters == null) {
+            parameters = new ECPrivateKeyParameters(keyData, ECDSA_SECP256K1_DOMAIN);
+            keyParameters = parameters;
+        }
+
+        return parameters;
+    }
+
     public int getRecoveryId(byte[] r, byte[] s, byte[] message) {
         int recId = -1;
         var hash = Crypto.calcKeccak256(message);
@@ -9,6 +9,7 @@ import com.hedera.hashgraph.sdk.proto.ResponseHeader;
 import com.hedera.hashgraph.sdk.proto.ResponseType;
 import com.hedera.hashgraph.sdk.proto.Transaction;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import io.grpc.Deadline;
 import io.grpc.MethodDescriptor;
 import java.time.Duration;
 import java.time.Instant;
@@ -30,6 +31,11 @@ import javax.annotation.Nullable;
  */
 public abstract class Query<O, T extends Query<O, T>>
         extends Executable<T, com.hedera.hashgraph.sdk.proto.Query, Response, O> {
+    /**
+     * By default a query is hedged once the node took longer than its estimated 99th percentile latency
+     */
+    static final double DEFAULT_HEDGE_DEVIATIONS = 4.0;
+
     private final com.hedera.hashgraph.sdk.proto.Query.Builder builder;
 
     private final QueryHeader.Builder headerBuilder;
@@ -58,6 +64,13 @@ public abstract class Query<O, T extends Query<O, T>>
     @Nullable
     private Hbar chosenQueryPayment = null;
 
+    private boolean hedging = false;
+
+    @Nullable
+    private Duration hedgeDelay = null;
+
+    private double hedgeDeviations = DEFAULT_HEDGE_DEVIATIONS;
+
     /**
      * Constructor.
      */
@@ -129,6 +142,111 @@ public abstract class Query<O, T extends Query<O, T>>
         return (T) this;
     }
 
+    /**
+     * Is hedged execution enabled for this query?
+     *
+     * @return                          is hedging enabled
+     */
+    public boolean isHedgingEnabled() {
+        return hedging;
+    }
+
+    /**
+     * Enable or disable hedged execution.
+     * <p>
+     * When enabled and the node a request was sent to has not answered within the hedge delay, a duplicate request is
+     * sent to the next node. The first successful response is used and the other call is cancelled. This trims the
+     * tail latency of queries such as {@link TransactionReceiptQuery} at the cost of some extra load on the network.
+     * <p>
+     * Unless a fixed delay is set with {@link Query#setHedgeDelay(Duration)}, the delay is derived from the latency
+     * the client has observed for the node; see {@link Query#setHedgeDeviations(double)}. A node which has not
+     * answered any request yet is never hedged.
+     * <p>
+     * Note that queries which require a payment may be charged by both nodes.
+     *
+     * @param hedging                   should hedging be enabled
+     * @return {@code this}
+     */
+    public T setHedgingEnabled(boolean hedging) {
+        this.hedging = hedging;
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
+    /**
+     * Extract the fixed hedge delay.
+     *
+     * @return                          the fixed hedge delay or null when the delay is derived from the node latency
+     */
+    @Nullable
+    public Duration getHedgeDelay() {
+        return hedgeDelay;
+    }
+
+    /**
+     * Set a fixed delay after which a duplicate request is sent to the next node. Implies
+     * {@link Query#setHedgingEnabled(boolean)}.
+     *
+     * @param hedgeDelay                the fixed hedge delay
+     * @return {@code this}
+     */
+    public T setHedgeDelay(Duration hedgeDelay) {
+        Objects.requireNonNull(hedgeDelay);
+        if (hedgeDelay.isNegative()) {
+            throw new IllegalArgumentException("hedgeDelay must be a positive duration");
+        }
+
+        this.hedgeDelay = hedgeDelay;
+        this.hedging = true;
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
+    /**
+     * Extract the number of latency deviations used to derive the hedge delay.
+     *
+     * @return                          the number of deviations
+     */
+    public double getHedgeDeviations() {
+        return hedgeDeviations;
+    }
+
+    /**
+     * Set which latency percentile of a node triggers a hedged request, expressed as the number of mean deviations
+     * above the node's average latency. Two deviations are roughly the 90th percentile and four, the default, are
+     * roughly the 99th percentile.
+     *
+     * @param hedgeDeviations           the number of deviations
+     * @return {@code this}
+     */
+    public T setHedgeDeviations(double hedgeDeviations) {
+        if (hedgeDeviations < 0) {
+            throw new IllegalArgumentException("hedgeDeviations must not be negative");
+        }
+
+        this.hedgeDeviations = hedgeDeviations;
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
+    @Override
+    @Nullable
+    Duration getHedgeDelay(Node node) {
+        if (!hedging) {
+            return null;
+        }
+
+        if (hedgeDelay != null) {
+            return hedgeDelay;
+        }
+
+        var estimate = node.getLatencyEstimate(hedgeDeviations);
+        return estimate.isZero() ? null : estimate;
+    }
+
     /**
      * Fetch the expected cost.
      *
@@ -175,10 +293,21 @@ public abstract class Query<O, T extends Query<O, T>>
      * @return                          Future result of the cost in hbar
      */
     public CompletableFuture<Hbar> getCostAsync(Client client, Duration timeout) {
+        return client.completeOnCallbackExecutor(getCostAsync(client, deadlineAfter(timeout)));
+    }
+
+    /**
+     * Fetch the expected cost asynchronously before a deadline.
+     *
+     * @param client                    the client
+     * @param deadline The deadline after which the execution attempt will be cancelled.
+     * @return                          Future result of the cost in hbar
+     */
+    CompletableFuture<Hbar> getCostAsync(Client client, Deadline deadline) {
         initWithNodeIds(client);
         return getCostExecutable()
                 .setNodeAccountIds(Objects.requireNonNull(getNodeAccountIds()))
-                .executeAsync(client, timeout);
+                .executeAsync(client, deadline);
     }
 
     /**
@@ -318,15 +447,16 @@ public abstract class Query<O, T extends Query<O, T>>
                             if (grpcCostQuery.getCost() == null) {
                                 // No payment was specified so we need to go ask
                                 // This is a query in its own right so we use a nested future here
-                                return getCostAsync(client).thenCompose(cost -> {
-                                    grpcCostQuery.setCost(cost);
+                                return getCostAsync(client, deadlineAfter(client.getRequestTimeout()))
+                                        .thenCompose(cost -> {
+                                            grpcCostQuery.setCost(cost);
 
-                                    if (grpcCostQuery.shouldError()) {
-                                        return CompletableFuture.failedFuture(grpcCostQuery.mapError());
-                                    }
+                                            if (grpcCostQuery.shouldError()) {
+                                                return CompletableFuture.failedFuture(grpcCostQuery.mapError());
+                                            }
 
-                                    return CompletableFuture.completedFuture(null);
-                                });
+                                            return CompletableFuture.completedFuture(null);
+                                        });
                             }
 
                             return CompletableFuture.completedFuture(null);
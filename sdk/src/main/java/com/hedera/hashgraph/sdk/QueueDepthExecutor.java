@@ -0,0 +1,56 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An executor which counts the tasks handed to another executor that have not started yet, so the queue depth of any
+ * executor, including ones which are not a {@link java.util.concurrent.ThreadPoolExecutor}, can be monitored.
+ */
+final class QueueDepthExecutor implements Executor {
+    private final Executor delegate;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param delegate                  the executor which runs the tasks
+     */
+    QueueDepthExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        queued.incrementAndGet();
+
+        try {
+            delegate.execute(() -> {
+                queued.decrementAndGet();
+                task.run();
+            });
+        } catch (RuntimeException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Extract the executor which runs the tasks.
+     *
+     * @return                          the executor
+     */
+    Executor getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Extract the number of tasks which were handed over but have not started yet.
+     *
+     * @return                          the number of waiting tasks
+     */
+    int getQueueDepth() {
+        return queued.get();
+    }
+}
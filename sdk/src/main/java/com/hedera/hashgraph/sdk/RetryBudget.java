@@ -0,0 +1,169 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A token bucket which limits the number of retries relative to the number of successful requests.
+ * <p>
+ * Every successful request deposits {@code retryRatio} tokens and every retry after a failure withdraws one, so with
+ * the default ratio of 0.2 retries add at most 20% to the load of a healthy client. In addition the bucket refills by
+ * {@code minRetriesPerSecond} tokens per second, so a client which sends few requests can still retry. The bucket
+ * holds at most {@code maxRetries} tokens and starts full, which bounds the retries that can be saved up while
+ * requests succeed.
+ * <p>
+ * The first attempt of a request never needs a token. Once the bucket is empty, requests fail with a
+ * {@link RetryBudgetExhaustedException} instead of retrying. Polling for a result which is not available yet, for
+ * example a receipt of a transaction which has not reached consensus, does not count as a retry.
+ * <p>
+ * A budget is shared by all requests executed with a {@link Client}, see {@link Client#setRetryBudget(RetryBudget)}.
+ * Clients use {@link #unlimited()} unless a budget is assigned.
+ * A request can be given its own budget with {@link Query#setRetryBudget(RetryBudget)} or
+ * {@link Transaction#setRetryBudget(RetryBudget)}.
+ */
+public final class RetryBudget {
+    static final double DEFAULT_RETRY_RATIO = 0.2;
+    static final int DEFAULT_MIN_RETRIES_PER_SECOND = 10;
+    static final int DEFAULT_MAX_RETRIES = 100;
+
+    private static final RetryBudget UNLIMITED = new RetryBudget(0, 0, 1, true);
+
+    private final boolean unlimited;
+    private final double retryRatio;
+    private final double minRetriesPerNano;
+    private final double maxRetries;
+    private final LongAdder retriesAllowed = new LongAdder();
+    private final LongAdder retriesRejected = new LongAdder();
+
+    // guarded by this
+    private double tokens;
+    private long lastRefill = System.nanoTime();
+
+    /**
+     * Constructor with a retry ratio of 0.2, 10 retries per second and at most 100 saved retries.
+     */
+    public RetryBudget() {
+        this(DEFAULT_RETRY_RATIO, DEFAULT_MIN_RETRIES_PER_SECOND, DEFAULT_MAX_RETRIES, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param retryRatio                the number of retries earned by each successful request
+     * @param minRetriesPerSecond       the number of retries earned per second regardless of successes
+     * @param maxRetries                the maximum number of retries which can be saved up
+     */
+    public RetryBudget(double retryRatio, int minRetriesPerSecond, int maxRetries) {
+        this(retryRatio, minRetriesPerSecond, maxRetries, false);
+    }
+
+    private RetryBudget(double retryRatio, int minRetriesPerSecond, int maxRetries, boolean unlimited) {
+        if (!(retryRatio >= 0) || minRetriesPerSecond < 0 || maxRetries < 1) {
+            throw new IllegalArgumentException(
+                    "retryRatio and minRetriesPerSecond must not be negative and maxRetries must be at least 1");
+        }
+
+        this.unlimited = unlimited;
+        this.retryRatio = retryRatio;
+        this.minRetriesPerNano = (double) minRetriesPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.maxRetries = maxRetries;
+        this.tokens = maxRetries;
+    }
+
+    /**
+     * A budget which allows every retry, leaving {@link Client#setMaxAttempts(int)} as the only limit.
+     *
+     * @return                          the unlimited budget
+     */
+    public static RetryBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Withdraw a token for a retry.
+     *
+     * @return                          whether the retry may be sent
+     */
+    boolean tryAcquire() {
+        if (unlimited) {
+            retriesAllowed.increment();
+            return true;
+        }
+
+        synchronized (this) {
+            refill();
+
+            if (tokens < 1) {
+                retriesRejected.increment();
+                return false;
+            }
+
+            tokens -= 1;
+        }
+
+        retriesAllowed.increment();
+        return true;
+    }
+
+    /**
+     * Deposit the tokens earned by a successful request.
+     */
+    void onSuccess() {
+        if (unlimited || retryRatio == 0) {
+            return;
+        }
+
+        synchronized (this) {
+            refill();
+            tokens = Math.min(maxRetries, tokens + retryRatio);
+        }
+    }
+
+    private void refill() {
+        var now = System.nanoTime();
+        tokens = Math.min(maxRetries, tokens + (now - lastRefill) * minRetriesPerNano);
+        lastRefill = now;
+    }
+
+    /**
+     * Does this budget allow every retry?
+     *
+     * @return                          is the budget unlimited
+     */
+    public boolean isUnlimited() {
+        return unlimited;
+    }
+
+    /**
+     * Extract the number of retries which would currently be allowed.
+     *
+     * @return                          the number of available retries
+     */
+    public synchronized long getAvailableRetries() {
+        if (unlimited) {
+            return Long.MAX_VALUE;
+        }
+
+        refill();
+        return (long) tokens;
+    }
+
+    /**
+     * Extract the number of retries this budget allowed.
+     *
+     * @return                          the number of allowed retries
+     */
+    public long getRetriesAllowed() {
+        return retriesAllowed.sum();
+    }
+
+    /**
+     * Extract the number of retries this budget rejected because it was exhausted.
+     *
+     * @return                          the number of rejected retries
+     */
+    public long getRetriesRejected() {
+        return retriesRejected.sum();
+    }
+}
@@ -0,0 +1,14 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import javax.annotation.Nullable;
+
+/**
+ * Thrown when a request is not retried because the {@link RetryBudget} of its client or of the request itself is
+ * exhausted. The cause is the error of the last attempt.
+ */
+public class RetryBudgetExhaustedException extends IllegalStateException {
+    RetryBudgetExhaustedException(@Nullable Throwable e) {
+        super("retry budget exhausted for request with last exception being", e);
+    }
+}
@@ -0,0 +1,68 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules the delays of a {@link Client}: retry backoff, hedged requests, node health probes, address book updates
+ * and topic subscription retries.
+ * <p>
+ * Tasks run on a thread owned by the timer and must not block; the SDK only uses them to hand work over to the
+ * client's executor. The default is a {@link HashedWheelTimer} shared by every client.
+ *
+ * @see Client#setTimer(Timer)
+ */
+public interface Timer extends AutoCloseable {
+    /**
+     * Schedule a task to run once after a delay.
+     *
+     * @param task                      the task to run
+     * @param delay                     the delay
+     * @param unit                      the unit of {@code delay}
+     * @return                          a handle with which the task can be cancelled
+     * @throws RejectedExecutionException when the timer was closed
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * Extract the number of tasks waiting to run, for monitoring.
+     *
+     * @return                          the number of pending tasks, or 0 when the timer does not track them
+     */
+    default long pendingTimeouts() {
+        return 0;
+    }
+
+    /**
+     * Stop the timer. Tasks which have not run yet are dropped.
+     */
+    @Override
+    void close();
+
+    /**
+     * A task scheduled on a {@link Timer}.
+     */
+    interface Timeout {
+        /**
+         * Cancel the task and remove it from the timer.
+         *
+         * @return                      {@code false} when the task already ran or was already cancelled
+         */
+        boolean cancel();
+
+        /**
+         * Was the task cancelled?
+         *
+         * @return                      was the task cancelled
+         */
+        boolean isCancelled();
+
+        /**
+         * Did the task run?
+         *
+         * @return                      did the task run
+         */
+        boolean isExpired();
+    }
+}
@@ -339,19 +339,23 @@ public final class TopicMessageQuery {
                         t.getMessage());
                 call.cancel("unsubscribed", null);
 
-                // Cannot use `CompletableFuture<U>` here since this future is never polled
-                try {
-                    Thread.sleep(delay);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
+                // Wait on the client's timer instead of blocking this gRPC thread, and make unsubscribing during the
+                // wait remove the pending retry from the timer
+                var retry = Delayer.delayFor(delay, client.getTimer(), client.executor);
 
-                try {
-                    makeStreamingCall(
-                            client, subscriptionHandle, onNext, attempt + 1, counter, lastMessage, pendingMessages);
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
+                subscriptionHandle.setOnUnsubscribe(() -> {
+                    client.untrackSubscription(subscriptionHandle);
+                    retry.cancel(false);
+                });
+
+                retry.thenRun(() -> {
+                    try {
+                        makeStreamingCall(
+                                client, subscriptionHandle, onNext, attempt + 1, counter, lastMessage, pendingMessages);
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
             }
 
             @Override
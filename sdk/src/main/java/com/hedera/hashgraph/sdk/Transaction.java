@@ -9,6 +9,11 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -83,6 +88,13 @@ public abstract class Transaction<T extends Transaction<T>>
      */
     protected List<SignatureMap.Builder> sigPairLists = Collections.emptyList();
 
+    /**
+     * The frozen body of each transaction ID, from which the body bytes of {@link #innerSignedTransactions} are
+     * produced when the transaction for a node is first signed or read. Transactions parsed from bytes already have
+     * their body bytes and no templates.
+     */
+    protected List<TransactionBodyTemplate> bodyTemplates = Collections.emptyList();
+
     /**
      * List of IDs for the transaction based on the operator because the transaction ID includes the operator's account
      */
@@ -102,6 +114,13 @@ public abstract class Transaction<T extends Transaction<T>>
      */
     protected List<Function<byte[], byte[]>> signers = new ArrayList<>();
 
+    /**
+     * The batch signers by public key, in the order they were added. They are also the entry of their key in
+     * {@link #signers}, which hands out the signatures of a batch so they are added in the order the signers were
+     * added, and only signs a single body when it was not part of a batch.
+     */
+    private final Map<PublicKey, BatchSigner> batchSigners = new LinkedHashMap<>();
+
     /**
      * The maximum transaction fee the client is willing to pay
      */
@@ -122,6 +141,9 @@ public abstract class Transaction<T extends Transaction<T>>
 
     private Key batchKey = null;
 
+    @Nullable
+    private Executor signingExecutor = null;
+
     /**
      * Constructor.
      */
@@ -825,6 +847,40 @@ public abstract class Transaction<T extends Transaction<T>>
         return memo;
     }
 
+    /**
+     * Extract the executor the transactions for all nodes are built and signed on.
+     *
+     * @return the signing executor, or {@code null} when they are built on the calling thread
+     */
+    @Nullable
+    public final Executor getSigningExecutor() {
+        return signingExecutor;
+    }
+
+    /**
+     * Build and sign the transactions for all nodes in parallel on an executor. Disabled by default.
+     * <p>
+     * Use an executor of its own, not the executor of the {@link Client}: the calling thread builds transactions as
+     * well and never waits for a task which has not started, but the tasks still occupy threads the client needs for
+     * executing transactions and queries.
+     * <p>
+     * {@link #toBytes()}, {@link #getTransactionHashPerNode()} and {@link #getSignatures()} build a transaction for
+     * every node and, for chunked transactions, every chunk, each signed by every signer. With a signing executor the
+     * transactions are built concurrently, so the signers must be thread safe, as the ones of {@link PrivateKey} are.
+     * The signatures of each transaction are still added in the order the signers were added. Executing a transaction
+     * only builds the transaction for the node it is sent to and is not affected.
+     * <p>
+     * May be set after the transaction was frozen.
+     *
+     * @param signingExecutor the executor, or {@code null} to build on the calling thread
+     * @return {@code this}
+     */
+    public final T setSigningExecutor(@Nullable Executor signingExecutor) {
+        this.signingExecutor = signingExecutor;
+        // noinspection unchecked
+        return (T) this;
+    }
+
     /**
      * Set a note or description that should be recorded in the transaction record (maximum length of 100 characters).
      *
@@ -1072,6 +1128,103 @@ public abstract class Transaction<T extends Transaction<T>>
         return (T) this;
     }
 
+    /**
+     * Sign the transaction with a signer which signs many bodies in one call, see {@link TransactionSigner}.
+     *
+     * @param publicKey         the public key
+     * @param transactionSigner the batch signer
+     * @return {@code this}
+     */
+    public T signWithBatch(PublicKey publicKey, TransactionSigner transactionSigner) {
+        var batchSigner = new BatchSigner(Objects.requireNonNull(transactionSigner));
+
+        if (isFrozen() && !keyAlreadySigned(publicKey)) {
+            batchSigners.put(publicKey, batchSigner);
+        }
+
+        return signWith(publicKey, batchSigner);
+    }
+
+    /**
+     * Sign every body which is missing the signature of a batch signer, with a single call to each batch signer. The
+     * signatures are added to the bodies when they are built, together with the ones of the other signers.
+     *
+     * @return a future which completes once every batch signer answered
+     */
+    CompletableFuture<Void> signWithBatchSignersAsync() {
+        if (batchSigners.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var batches = new ArrayList<CompletableFuture<Void>>(batchSigners.size());
+
+        for (var entry : batchSigners.entrySet()) {
+            var publicKeyBytes = ByteString.copyFrom(entry.getKey().toBytesRaw());
+            var batchSigner = entry.getValue();
+            var bodies = new ArrayList<ByteString>();
+            var messages = new ArrayList<byte[]>();
+
+            for (var i = 0; i < innerSignedTransactions.size(); i++) {
+                if (publicKeyIsInSigPairList(publicKeyBytes, sigPairLists.get(i).getSigPairList())) {
+                    continue;
+                }
+
+                var bodyBytes = getInnerSignedTransaction(i).getBodyBytes();
+                if (!batchSigner.signatures.containsKey(bodyBytes)) {
+                    bodies.add(bodyBytes);
+                    messages.add(bodyBytes.toByteArray());
+                }
+            }
+
+            if (!bodies.isEmpty()) {
+                batches.add(batchSigner.transactionSigner.signAsync(messages).thenAccept(signatures -> {
+                    requireSignatureCount(signatures, bodies.size());
+
+                    for (var j = 0; j < bodies.size(); j++) {
+                        batchSigner.signatures.put(bodies.get(j), signatures.get(j));
+                    }
+                }));
+            }
+        }
+
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private static void requireSignatureCount(List<byte[]> signatures, int expected) {
+        if (signatures.size() != expected) {
+            throw new IllegalStateException("transaction signer returned " + signatures.size() + " signatures for "
+                    + expected + " transaction bodies");
+        }
+    }
+
+    /**
+     * The entry of a batch signer in {@link #signers}.
+     */
+    private static final class BatchSigner implements UnaryOperator<byte[]> {
+        private final TransactionSigner transactionSigner;
+
+        /**
+         * The signatures of a batch by body, until they are added to their body.
+         */
+        private final Map<ByteString, byte[]> signatures = new ConcurrentHashMap<>();
+
+        BatchSigner(TransactionSigner transactionSigner) {
+            this.transactionSigner = transactionSigner;
+        }
+
+        @Override
+        public byte[] apply(byte[] message) {
+            var signature = signatures.remove(ByteString.copyFrom(message));
+            if (signature != null) {
+                return signature;
+            }
+
+            var signed = transactionSigner.signAsync(List.of(message)).join();
+            requireSignatureCount(signed, 1);
+            return signed.get(0);
+        }
+    }
+
     /**
      * Sign the transaction with the configured client.
      *
@@ -1349,21 +1502,43 @@ public abstract class Transaction<T extends Transaction<T>>
                     .setTransactionID(getTransactionIdInternal().toProtobuf());
         }
 
+        for (var batchSigner : batchSigners.values()) {
+            batchSigner.signatures.clear();
+        }
+
         outerTransactions = new ArrayList<>(nodeAccountIds.size());
         sigPairLists = new ArrayList<>(nodeAccountIds.size());
         innerSignedTransactions = new ArrayList<>(nodeAccountIds.size());
+        bodyTemplates = nodeAccountIds.isEmpty()
+                ? Collections.emptyList()
+                : List.of(new TransactionBodyTemplate(
+                        Objects.requireNonNull(frozenBodyBuilder), nodeAccountIds.getList()));
 
-        for (AccountId nodeId : nodeAccountIds) {
+        for (var i = 0; i < nodeAccountIds.size(); i++) {
             sigPairLists.add(SignatureMap.newBuilder());
-            innerSignedTransactions.add(SignedTransaction.newBuilder()
-                    .setBodyBytes(Objects.requireNonNull(frozenBodyBuilder)
-                            .setNodeAccountID(nodeId.toProtobuf())
-                            .build()
-                            .toByteString()));
+            innerSignedTransactions.add(SignedTransaction.newBuilder());
             outerTransactions.add(null);
         }
     }
 
+    /**
+     * Extract the signed transaction at {@code index}, producing its body bytes from the frozen body first if that has
+     * not happened yet. Only the transactions which are actually sent, signed or serialized pay for their body.
+     *
+     * @param index the index of the transaction
+     * @return the signed transaction with its body bytes
+     */
+    final SignedTransaction.Builder getInnerSignedTransaction(int index) {
+        var signedTransaction = innerSignedTransactions.get(index);
+
+        if (signedTransaction.getBodyBytes().isEmpty() && !bodyTemplates.isEmpty()) {
+            var nodeCount = bodyTemplates.get(0).getNodeCount();
+            signedTransaction.setBodyBytes(bodyTemplates.get(index / nodeCount).getBodyBytes(index % nodeCount));
+        }
+
+        return signedTransaction;
+    }
+
     /**
      * Build all the transactions.
      */
@@ -1371,8 +1546,59 @@ public abstract class Transaction<T extends Transaction<T>>
         transactionIds.setLocked(true);
         nodeAccountIds.setLocked(true);
 
-        for (var i = 0; i < innerSignedTransactions.size(); ++i) {
-            buildTransaction(i);
+        join(signWithBatchSignersAsync());
+
+        var executor = signingExecutor;
+        if (executor == null || innerSignedTransactions.size() < 2) {
+            for (var i = 0; i < innerSignedTransactions.size(); ++i) {
+                buildTransaction(i);
+            }
+
+            return;
+        }
+
+        // The calling thread claims indices too and only waits for the ones a running task claimed, so the build
+        // finishes even when no thread of the executor ever becomes free. Every index is built by a single thread,
+        // and join() publishes its builders to this thread.
+        var size = innerSignedTransactions.size();
+        var nextIndex = new AtomicInteger();
+        var builds = new CompletableFuture<?>[size];
+        for (var i = 0; i < size; ++i) {
+            builds[i] = new CompletableFuture<Void>();
+        }
+
+        Runnable worker = () -> {
+            for (var index = nextIndex.getAndIncrement(); index < size; index = nextIndex.getAndIncrement()) {
+                try {
+                    buildTransaction(index);
+                    builds[index].complete(null);
+                } catch (RuntimeException e) {
+                    builds[index].completeExceptionally(e);
+                }
+            }
+        };
+
+        for (var i = 1; i < size; ++i) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+
+        worker.run();
+        join(CompletableFuture.allOf(builds));
+    }
+
+    private static void join(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
         }
     }
 
@@ -1410,7 +1636,7 @@ public abstract class Transaction<T extends Transaction<T>>
      * @param index the index of the transaction to sign
      */
     void signTransaction(int index) {
-        var bodyBytes = innerSignedTransactions.get(index).getBodyBytes().toByteArray();
+        var bodyBytes = getInnerSignedTransaction(index).getBodyBytes().toByteArray();
         var thisSigPairList = sigPairLists.get(index).getSigPairList();
 
         for (var i = 0; i < publicKeys.size(); i++) {
@@ -1498,7 +1724,13 @@ public abstract class Transaction<T extends Transaction<T>>
     @Override
     CompletableFuture<Void> onExecuteAsync(Client client) {
         onExecute(client);
-        return CompletableFuture.completedFuture(null);
+        return signWithBatchSignersAsync();
+    }
+
+    @Override
+    CompletableFuture<Void> onRetryAsync() {
+        // A new transaction ID changed the bodies
+        return signWithBatchSignersAsync();
     }
 
     @Override
@@ -1616,7 +1848,7 @@ public abstract class Transaction<T extends Transaction<T>>
 
         for (int i = 0; i < innerSignedTransactions.size(); i++) {
             SignedTransaction signableNodeTransactionBodyBytes =
-                    innerSignedTransactions.get(i).build();
+                    getInnerSignedTransaction(i).build();
 
             TransactionBody body = parseTransactionBody(signableNodeTransactionBodyBytes.getBodyBytes());
 
@@ -1675,7 +1907,7 @@ public abstract class Transaction<T extends Transaction<T>>
      */
     private boolean processedSignatureForTransaction(
             int index, PublicKey publicKey, byte[] signature, TransactionId transactionID, AccountId nodeID) {
-        SignedTransaction.Builder temp = innerSignedTransactions.get(index);
+        SignedTransaction.Builder temp = getInnerSignedTransaction(index);
 
         TransactionBody body = parseTransactionBody(temp);
         if (body == null) {
@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnsafeByteOperations;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A frozen transaction body serialized once, from which the body bytes for each node are produced on demand.
+ * <p>
+ * Protobuf writes the fields of a message in the order of their numbers, so a serialized body is the transaction ID
+ * (field 1), followed by the node account ID (field 2) and the rest of the body. Instead of building the whole body
+ * for every node, it is serialized once without a node account ID and the encoded node account ID of a node is copied
+ * in after the transaction ID, which gives the same bytes.
+ */
+final class TransactionBodyTemplate {
+    private final ByteString template;
+    private final int headSize;
+    private final List<AccountId> nodeAccountIds;
+
+    /**
+     * Constructor.
+     * <p>
+     * Leaves the node account ID of the builder set to the last node, as building the body for every node would.
+     *
+     * @param bodyBuilder               the frozen body
+     * @param nodeAccountIds            the nodes to produce the body for, must not be empty
+     */
+    TransactionBodyTemplate(TransactionBody.Builder bodyBuilder, List<AccountId> nodeAccountIds) {
+        this.nodeAccountIds = List.copyOf(nodeAccountIds);
+        this.template = bodyBuilder.clearNodeAccountID().build().toByteString();
+        this.headSize = bodyBuilder.hasTransactionID()
+                ? CodedOutputStream.computeMessageSize(
+                        TransactionBody.TRANSACTIONID_FIELD_NUMBER, bodyBuilder.getTransactionID())
+                : 0;
+
+        bodyBuilder.setNodeAccountID(
+                this.nodeAccountIds.get(this.nodeAccountIds.size() - 1).toProtobuf());
+    }
+
+    /**
+     * Extract the number of nodes the body is produced for.
+     *
+     * @return                          the number of nodes
+     */
+    int getNodeCount() {
+        return nodeAccountIds.size();
+    }
+
+    /**
+     * Produce the serialized body for a node.
+     *
+     * @param index                     the index of the node
+     * @return                          the serialized body with the node account ID of the node
+     */
+    ByteString getBodyBytes(int index) {
+        var nodeAccountId = nodeAccountIds.get(index).toProtobuf();
+        var fieldSize = CodedOutputStream.computeMessageSize(TransactionBody.NODEACCOUNTID_FIELD_NUMBER, nodeAccountId);
+        var bytes = new byte[template.size() + fieldSize];
+
+        template.copyTo(bytes, 0, 0, headSize);
+        try {
+            var output = CodedOutputStream.newInstance(bytes, headSize, fieldSize);
+            output.writeMessage(TransactionBody.NODEACCOUNTID_FIELD_NUMBER, nodeAccountId);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        template.copyTo(bytes, headSize, headSize + fieldSize, template.size() - headSize);
+
+        return UnsafeByteOperations.unsafeWrap(bytes);
+    }
+}
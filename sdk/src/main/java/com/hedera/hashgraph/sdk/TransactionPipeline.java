@@ -0,0 +1,411 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+
+/**
+ * Submits a large number of transactions with a bounded number of them in flight.
+ * <p>
+ * Transactions are pulled from the source only when there is room in the in-flight window, so an unbounded
+ * {@link Stream} or {@link Iterable} can be submitted without buffering it. Each transaction is frozen and signed on
+ * the client's executor and then executed with the usual retry semantics of {@link Transaction#executeAsync(Client)}.
+ * When receipts are requested, {@link TransactionResponse#getReceiptAsync(Client)} is chained and the receipt query
+ * occupies the slot of its transaction until it completes.
+ * <p>
+ * A failing transaction is reported through its {@link Result} and does not stop the pipeline.
+ * <pre>{@code
+ * client.newTransactionPipeline()
+ *     .setMaxInFlight(500)
+ *     .setFetchReceipts(true)
+ *     .submit(transactions, result -> {
+ *         if (!result.isSuccess()) {
+ *             log.warn("transaction {} failed", result.getIndex(), result.getError());
+ *         }
+ *     })
+ *     .join();
+ * }</pre>
+ */
+public final class TransactionPipeline {
+    /**
+     * The order in which results are delivered.
+     */
+    public enum Ordering {
+        /**
+         * Deliver results in the order the transactions were pulled from the source. A slow transaction holds back
+         * the results of the ones after it, but not their submission.
+         */
+        SUBMISSION,
+        /**
+         * Deliver results as soon as their transaction completes.
+         */
+        COMPLETION
+    }
+
+    static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
+    private final Client client;
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private boolean fetchReceipts = false;
+    private Ordering ordering = Ordering.COMPLETION;
+
+    /**
+     * Constructor.
+     *
+     * @param client                    the client used to freeze, sign and execute the transactions
+     */
+    TransactionPipeline(Client client) {
+        this.client = Objects.requireNonNull(client);
+    }
+
+    /**
+     * Extract the maximum number of transactions in flight.
+     *
+     * @return                          the maximum number of transactions in flight
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Assign the maximum number of transactions which are being frozen, signed, executed or waiting for their receipt
+     * at the same time. Defaults to 64.
+     *
+     * @param maxInFlight               the maximum number of transactions in flight
+     * @return {@code this}
+     */
+    public TransactionPipeline setMaxInFlight(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1");
+        }
+
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * Are receipts fetched for the submitted transactions?
+     *
+     * @return                          are receipts fetched
+     */
+    public boolean isFetchReceipts() {
+        return fetchReceipts;
+    }
+
+    /**
+     * Assign whether the receipt of every submitted transaction is fetched. A receipt whose status is not
+     * {@link Status#SUCCESS} is reported as a failure of its transaction. Defaults to {@code false}.
+     *
+     * @param fetchReceipts             should receipts be fetched
+     * @return {@code this}
+     */
+    public TransactionPipeline setFetchReceipts(boolean fetchReceipts) {
+        this.fetchReceipts = fetchReceipts;
+        return this;
+    }
+
+    /**
+     * Extract the order in which results are delivered.
+     *
+     * @return                          the ordering
+     */
+    public Ordering getOrdering() {
+        return ordering;
+    }
+
+    /**
+     * Assign the order in which results are delivered. Defaults to {@link Ordering#COMPLETION}.
+     *
+     * @param ordering                  the ordering
+     * @return {@code this}
+     */
+    public TransactionPipeline setOrdering(Ordering ordering) {
+        this.ordering = Objects.requireNonNull(ordering);
+        return this;
+    }
+
+    /**
+     * Submit a stream of transactions.
+     *
+     * @param transactions              the transactions
+     * @param onResult                  called once per transaction, never concurrently
+     * @return                          a future which completes once every result was delivered
+     */
+    public CompletableFuture<Void> submit(Stream<? extends Transaction<?>> transactions, Consumer<Result> onResult) {
+        return submit(transactions.iterator(), onResult);
+    }
+
+    /**
+     * Submit transactions.
+     * <p>
+     * The returned future completes exceptionally when the source or {@code onResult} throws; no further
+     * transactions are pulled in that case.
+     *
+     * @param transactions              the transactions
+     * @param onResult                  called once per transaction, never concurrently
+     * @return                          a future which completes once every result was delivered
+     */
+    public CompletableFuture<Void> submit(Iterable<? extends Transaction<?>> transactions, Consumer<Result> onResult) {
+        return submit(transactions.iterator(), onResult);
+    }
+
+    private CompletableFuture<Void> submit(Iterator<? extends Transaction<?>> source, Consumer<Result> onResult) {
+        var run = new Run(source, Objects.requireNonNull(onResult), maxInFlight, fetchReceipts, ordering);
+        run.fill();
+        return run.done;
+    }
+
+    /**
+     * The state of a single call to {@code submit}.
+     */
+    private final class Run {
+        private final Iterator<? extends Transaction<?>> source;
+        private final Consumer<Result> onResult;
+        private final int maxInFlight;
+        private final boolean fetchReceipts;
+        private final Ordering ordering;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        // guarded by this
+        private int inFlight;
+        private long nextIndex;
+        private boolean exhausted;
+
+        // guarded by results
+        private final HashMap<Long, Result> results = new HashMap<>();
+        private long nextToDeliver;
+        private long delivered;
+
+        Run(
+                Iterator<? extends Transaction<?>> source,
+                Consumer<Result> onResult,
+                int maxInFlight,
+                boolean fetchReceipts,
+                Ordering ordering) {
+            this.source = source;
+            this.onResult = onResult;
+            this.maxInFlight = maxInFlight;
+            this.fetchReceipts = fetchReceipts;
+            this.ordering = ordering;
+        }
+
+        /**
+         * Pull transactions from the source until the window is full.
+         */
+        void fill() {
+            var started = new ArrayList<Runnable>();
+
+            synchronized (this) {
+                try {
+                    while (!exhausted && !done.isDone() && inFlight < maxInFlight) {
+                        if (!source.hasNext()) {
+                            exhausted = true;
+                            break;
+                        }
+
+                        var index = nextIndex++;
+                        var transaction = Objects.requireNonNull(source.next());
+                        inFlight++;
+                        started.add(() -> start(index, transaction));
+                    }
+                } catch (RuntimeException e) {
+                    done.completeExceptionally(e);
+                    return;
+                }
+            }
+
+            for (var start : started) {
+                start.run();
+            }
+
+            completeIfFinished();
+        }
+
+        private void start(long index, Transaction<?> transaction) {
+            var response = new CompletableFuture<TransactionResponse>();
+
+            // Results are handed to the callback executor once per transaction, not after every nested call
+            var outcome = CompletableFuture.runAsync(() -> prepare(transaction), client.executor)
+                    .thenCompose(ignored ->
+                            transaction.executeAsync(client, Executable.deadlineAfter(client.getRequestTimeout())))
+                    .thenCompose(transactionResponse -> {
+                        response.complete(transactionResponse);
+                        return fetchReceipts
+                                ? transactionResponse.getReceiptAsync(
+                                        client, Executable.deadlineAfter(client.getRequestTimeout()))
+                                : CompletableFuture.completedFuture(null);
+                    });
+
+            client.completeOnCallbackExecutor(outcome)
+                    .handle((receipt, error) -> new Result(
+                            index, transaction, response.getNow(null), receipt, error == null ? null : unwrap(error)))
+                    .thenAccept(this::finish);
+        }
+
+        /**
+         * Freeze the transaction and sign it with the operator. The body and signatures for a node are only produced
+         * once execution picks that node.
+         */
+        private void prepare(Transaction<?> transaction) {
+            if (!transaction.isFrozen()) {
+                transaction.freezeWith(client);
+            }
+
+            var operatorId = client.getOperatorAccountId();
+            var transactionId = transaction.getTransactionId();
+            if (operatorId != null && transactionId != null && operatorId.equals(transactionId.accountId)) {
+                transaction.signWithOperator(client);
+            }
+        }
+
+        private void finish(Result result) {
+            deliver(result);
+
+            synchronized (this) {
+                inFlight--;
+            }
+
+            fill();
+        }
+
+        private void deliver(Result result) {
+            synchronized (results) {
+                if (done.isDone()) {
+                    return;
+                }
+
+                try {
+                    if (ordering == Ordering.COMPLETION) {
+                        onResult.accept(result);
+                        delivered++;
+                        return;
+                    }
+
+                    results.put(result.index, result);
+                    for (var next = results.remove(nextToDeliver); next != null; next = results.remove(nextToDeliver)) {
+                        nextToDeliver++;
+                        onResult.accept(next);
+                        delivered++;
+                    }
+                } catch (RuntimeException e) {
+                    done.completeExceptionally(e);
+                }
+            }
+        }
+
+        private void completeIfFinished() {
+            long submitted;
+            synchronized (this) {
+                if (!exhausted || inFlight > 0) {
+                    return;
+                }
+                submitted = nextIndex;
+            }
+
+            synchronized (results) {
+                if (delivered == submitted) {
+                    done.complete(null);
+                }
+            }
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * The outcome of a single submitted transaction.
+     */
+    public static final class Result {
+        private final long index;
+        private final Transaction<?> transaction;
+
+        @Nullable
+        private final TransactionResponse response;
+
+        @Nullable
+        private final TransactionReceipt receipt;
+
+        @Nullable
+        private final Throwable error;
+
+        Result(
+                long index,
+                Transaction<?> transaction,
+                @Nullable TransactionResponse response,
+                @Nullable TransactionReceipt receipt,
+                @Nullable Throwable error) {
+            this.index = index;
+            this.transaction = transaction;
+            this.response = response;
+            this.receipt = receipt;
+            this.error = error;
+        }
+
+        /**
+         * Extract the position of the transaction in the submitted source, starting at 0.
+         *
+         * @return                      the index
+         */
+        public long getIndex() {
+            return index;
+        }
+
+        /**
+         * Extract the submitted transaction.
+         *
+         * @return                      the transaction
+         */
+        public Transaction<?> getTransaction() {
+            return transaction;
+        }
+
+        /**
+         * Extract the response of the node which accepted the transaction.
+         *
+         * @return                      the response, or {@code null} when the transaction was not accepted
+         */
+        @Nullable
+        public TransactionResponse getResponse() {
+            return response;
+        }
+
+        /**
+         * Extract the receipt of the transaction.
+         *
+         * @return                      the receipt, or {@code null} when receipts are not fetched or the receipt
+         *                              could not be fetched
+         */
+        @Nullable
+        public TransactionReceipt getReceipt() {
+            return receipt;
+        }
+
+        /**
+         * Extract the error the transaction failed with.
+         *
+         * @return                      the error, or {@code null} when the transaction succeeded
+         */
+        @Nullable
+        public Throwable getError() {
+            return error;
+        }
+
+        /**
+         * Did the transaction succeed?
+         *
+         * @return                      whether the transaction succeeded
+         */
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+}
@@ -2,10 +2,12 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.common.base.MoreObjects;
+import io.grpc.Deadline;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -127,6 +129,21 @@ public final class TransactionResponse {
      */
     public TransactionReceipt getReceipt(Client client, Duration timeout)
             throws TimeoutException, PrecheckStatusException, ReceiptStatusException {
+        return getReceipt(client, Executable.deadlineAfter(timeout));
+    }
+
+    /**
+     * Fetch the receipt of the transaction, retrying throttled transactions until the deadline.
+     *
+     * @param client   The client with which this will be executed.
+     * @param deadline The deadline shared by every receipt query, backoff and retried transaction.
+     * @return the transaction receipt
+     * @throws TimeoutException        when the transaction times out
+     * @throws PrecheckStatusException when the precheck fails
+     * @throws ReceiptStatusException  when there is an issue with the receipt
+     */
+    TransactionReceipt getReceipt(Client client, Deadline deadline)
+            throws TimeoutException, PrecheckStatusException, ReceiptStatusException {
         int attempts = 0;
         ReceiptStatusException lastException = null;
         long backoffMs = INITIAL_BACKOFF_MS;
@@ -134,7 +151,7 @@ public final class TransactionResponse {
         while (attempts < MAX_RETRY_ATTEMPTS) {
             try {
                 // Attempt to execute the receipt query
-                return getReceiptQuery().execute(client, timeout).validateStatus(validateStatus);
+                return getReceiptQuery().execute(client, deadline).validateStatus(validateStatus);
             } catch (ReceiptStatusException e) {
                 // Check if the exception status indicates throttling or inner transaction throttling
                 if (e.receipt.status == Status.THROTTLED_AT_CONSENSUS) {
@@ -143,13 +160,17 @@ public final class TransactionResponse {
 
                     if (attempts < MAX_RETRY_ATTEMPTS) {
                         try {
-                            // Wait with exponential backoff before retrying
-                            Thread.sleep(Math.min(backoffMs, MAX_BACKOFF_MS));
+                            // Wait with exponential backoff before retrying, but never past the deadline
+                            var remainingMs = deadline.timeRemaining(TimeUnit.MILLISECONDS);
+                            if (remainingMs <= 0) {
+                                throw new TimeoutException();
+                            }
+                            Thread.sleep(Math.min(Math.min(backoffMs, MAX_BACKOFF_MS), remainingMs));
                             // Double the backoff for next attempt
                             backoffMs *= 2;
 
                             // Retry the transaction
-                            return retryTransaction(client);
+                            return retryTransaction(client, deadline);
                         } catch (InterruptedException ie) {
                             Thread.currentThread().interrupt();
                             throw new RuntimeException("Retry on throttled status interrupted", ie);
@@ -169,17 +190,19 @@ public final class TransactionResponse {
         throw lastException;
     }
 
-    private TransactionReceipt retryTransaction(Client client)
+    private TransactionReceipt retryTransaction(Client client, Deadline deadline)
             throws PrecheckStatusException, TimeoutException, ReceiptStatusException {
         // reset the transaction body
         transaction.frozenBodyBuilder = null;
         // regenerate the transaction id
         transaction.regenerateTransactionId(client);
-        TransactionResponse transactionResponse = (TransactionResponse) this.transaction.execute(client);
+        // go through the public overload, chunked transactions apply it per chunk
+        TransactionResponse transactionResponse = (TransactionResponse) this.transaction.execute(
+                client, Duration.ofNanos(Math.max(0, deadline.timeRemaining(TimeUnit.NANOSECONDS))));
         return new TransactionReceiptQuery()
                 .setTransactionId(transactionResponse.transactionId)
                 .setNodeAccountIds(List.of(transactionResponse.nodeId))
-                .execute(client)
+                .execute(client, deadline)
                 .validateStatus(validateStatus);
     }
 
@@ -212,7 +235,18 @@ public final class TransactionResponse {
      * @return the transaction receipt
      */
     public CompletableFuture<TransactionReceipt> getReceiptAsync(Client client, Duration timeout) {
-        return getReceiptQuery().executeAsync(client, timeout).thenCompose(receipt -> {
+        return client.completeOnCallbackExecutor(getReceiptAsync(client, Executable.deadlineAfter(timeout)));
+    }
+
+    /**
+     * Fetch the receipt of the transaction asynchronously before a deadline.
+     *
+     * @param client   The client with which this will be executed.
+     * @param deadline The deadline after which the execution attempt will be cancelled.
+     * @return the transaction receipt
+     */
+    CompletableFuture<TransactionReceipt> getReceiptAsync(Client client, Deadline deadline) {
+        return getReceiptQuery().executeAsync(client, deadline).thenCompose(receipt -> {
             try {
                 return CompletableFuture.completedFuture(receipt.validateStatus(validateStatus));
             } catch (ReceiptStatusException e) {
@@ -292,8 +326,9 @@ public final class TransactionResponse {
      */
     public TransactionRecord getRecord(Client client, Duration timeout)
             throws TimeoutException, PrecheckStatusException, ReceiptStatusException {
-        getReceipt(client, timeout);
-        return getRecordQuery().execute(client, timeout);
+        var deadline = Executable.deadlineAfter(timeout);
+        getReceipt(client, deadline);
+        return getRecordQuery().execute(client, deadline);
     }
 
     /**
@@ -325,8 +360,9 @@ public final class TransactionResponse {
      * @return future result of the transaction record
      */
     public CompletableFuture<TransactionRecord> getRecordAsync(Client client, Duration timeout) {
-        return getReceiptAsync(client, timeout)
-                .thenCompose((receipt) -> getRecordQuery().executeAsync(client, timeout));
+        var deadline = Executable.deadlineAfter(timeout);
+        return client.completeOnCallbackExecutor(getReceiptAsync(client, deadline)
+                .thenCompose((receipt) -> getRecordQuery().executeAsync(client, deadline)));
     }
 
     /**
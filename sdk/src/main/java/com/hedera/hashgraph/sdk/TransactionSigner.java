@@ -0,0 +1,27 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Signs the bodies of a transaction in batches, for keys held by a remote HSM or KMS where every call is a round trip.
+ * <p>
+ * Register a signer with {@link Transaction#signWithBatch(PublicKey, TransactionSigner)}. Before the transactions for
+ * all nodes are built, for example by {@link Transaction#toBytes()}, and before {@code executeAsync} sends a
+ * transaction, the bodies of every node and chunk which are not signed yet are handed to the signer in a single call.
+ * Paths which build the transaction for a single node without waiting, such as {@code execute}, ask the signer for
+ * that body alone and block until it answered.
+ * <p>
+ * Implementations must be thread safe and should not block the calling thread.
+ */
+@FunctionalInterface
+public interface TransactionSigner {
+    /**
+     * Sign a batch of transaction bodies.
+     *
+     * @param messages                  the serialized transaction bodies
+     * @return                          the signatures, in the order of {@code messages}
+     */
+    CompletableFuture<List<byte[]>> signAsync(List<byte[]> messages);
+}
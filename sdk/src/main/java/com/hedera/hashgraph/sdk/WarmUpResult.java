@@ -0,0 +1,50 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import java.util.List;
+
+/**
+ * The outcome of {@link Client#warmUp(java.time.Duration)}: the nodes whose channels did not become ready in time.
+ * <p>
+ * Those nodes were put into backoff, so requests avoid them until a probe or their backoff readmits them.
+ */
+public final class WarmUpResult {
+    /**
+     * The account IDs of the consensus nodes which failed to connect
+     */
+    public final List<AccountId> failedNodes;
+
+    /**
+     * The addresses of the mirror nodes which failed to connect
+     */
+    public final List<String> failedMirrorNodes;
+
+    /**
+     * Constructor.
+     *
+     * @param failedNodes               the consensus nodes which failed to connect
+     * @param failedMirrorNodes         the mirror nodes which failed to connect
+     */
+    WarmUpResult(List<AccountId> failedNodes, List<String> failedMirrorNodes) {
+        this.failedNodes = List.copyOf(failedNodes);
+        this.failedMirrorNodes = List.copyOf(failedMirrorNodes);
+    }
+
+    /**
+     * Did every node connect?
+     *
+     * @return                          whether no node failed to connect
+     */
+    public boolean isSuccess() {
+        return failedNodes.isEmpty() && failedMirrorNodes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("failedNodes", failedNodes)
+                .add("failedMirrorNodes", failedMirrorNodes)
+                .toString();
+    }
+}
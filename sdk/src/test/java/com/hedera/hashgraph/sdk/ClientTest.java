@@ -8,17 +8,22 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.protobuf.ByteString;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
 import java.io.File;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -27,6 +32,9 @@ import java.util.function.Function;
 import javax.annotation.Nullable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullSource;
@@ -54,6 +62,173 @@ class ClientTest {
         Client.forMainnet(executor).close();
     }
 
+    @Test
+    @DisplayName("Warm up reports and backs off nodes which fail to connect")
+    void warmUpBacksOffNodesWhichFailToConnect() throws Exception {
+        var name = InProcessServerBuilder.generateName();
+        Server server =
+                InProcessServerBuilder.forName(name).directExecutor().build().start();
+        var live = new AccountId(0, 0, 3);
+        var dead = new AccountId(0, 0, 4);
+
+        try (var client = Client.forNetwork(
+                Map.of("in-process:" + name, live, "in-process:" + InProcessServerBuilder.generateName(), dead))) {
+            var result = client.warmUp(Duration.ofSeconds(5));
+
+            assertThat(result.isSuccess()).isFalse();
+            assertThat(result.failedNodes).containsExactly(dead);
+            assertThat(result.failedMirrorNodes).isEmpty();
+
+            for (var node : client.network.getNodes()) {
+                assertThat(node.hasConnected()).isEqualTo(node.getAccountId().equals(live));
+                assertThat(node.isHealthy()).isEqualTo(node.getAccountId().equals(live));
+            }
+        } finally {
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A view shares the network with its client but has its own operator and settings")
+    void withOperatorSharesTheNetwork() throws Exception {
+        var key = PrivateKey.generateED25519();
+
+        try (var client = Client.forNetwork(Map.of("in-process:test", new AccountId(0, 0, 3)))
+                .setOperator(new AccountId(0, 0, 2), PrivateKey.generateED25519())
+                .setMaxAttempts(3)) {
+            var view = client.withOperator(new AccountId(0, 0, 1001), key);
+
+            assertThat(view.network).isSameAs(client.network);
+            assertThat(view.mirrorNetwork).isSameAs(client.mirrorNetwork);
+            assertThat(view.executor).isSameAs(client.executor);
+            assertThat(view.getOperatorAccountId()).isEqualTo(new AccountId(0, 0, 1001));
+            assertThat(view.getOperatorPublicKey()).isEqualTo(key.getPublicKey());
+            assertThat(view.getMaxAttempts()).isEqualTo(3);
+
+            view.setMaxAttempts(5);
+            assertThat(client.getMaxAttempts()).isEqualTo(3);
+            assertThat(client.getOperatorAccountId()).isEqualTo(new AccountId(0, 0, 2));
+
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(() -> view.setNetworkUpdatePeriod(Duration.ofMinutes(1)));
+
+            var channel = client.network.getNodes().get(0).getChannel();
+            view.close();
+
+            assertThat(client.executor.isShutdown()).isFalse();
+            assertThat(channel.isShutdown()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("A view does not take over the node events, timer or node selection of its client")
+    void viewDoesNotChangeTheSharedNetwork() throws Exception {
+        var clientEvents = new ArrayList<AccountId>();
+        var viewEvents = new ArrayList<AccountId>();
+
+        try (var client = Client.forNetwork(Map.of("in-process:test", new AccountId(0, 0, 3)))
+                .setExecutionListener(new ExecutionListener() {
+                    @Override
+                    public void onNodeBackoff(AccountId nodeAccountId, Duration backoff) {
+                        clientEvents.add(nodeAccountId);
+                    }
+                })) {
+            var view = client.withOperator(new AccountId(0, 0, 1001), PrivateKey.generateED25519())
+                    .setExecutionListener(new ExecutionListener() {
+                        @Override
+                        public void onNodeBackoff(AccountId nodeAccountId, Duration backoff) {
+                            viewEvents.add(nodeAccountId);
+                        }
+                    });
+
+            client.network.increaseBackoff(client.network.getNodes().get(0));
+
+            assertThat(clientEvents).containsExactly(new AccountId(0, 0, 3));
+            assertThat(viewEvents).isEmpty();
+
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> view.setTimer(client.getTimer()));
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(() -> view.setNodeSelectionStrategy(NodeSelectionStrategy.POWER_OF_TWO_CHOICES));
+        }
+    }
+
+    @Test
+    @DisplayName("Futures are completed on the callback executor and responses handled on the transport executor")
+    void bulkheadExecutors() throws Exception {
+        var callbackExecutor = Executors.newSingleThreadExecutor(task -> new Thread(task, "callbacks"));
+
+        try (var client = Client.forNetwork(Map.of("in-process:test", new AccountId(0, 0, 3)))) {
+            assertThat(client.getCallbackExecutor()).isNull();
+            assertThat(client.getTransportExecutor()).isNull();
+
+            client.setCallbackExecutor(callbackExecutor).setTransportExecutor(Runnable::run);
+            assertThat(client.getCallbackExecutor()).isSameAs(callbackExecutor);
+            assertThat(client.getTransportExecutor()).isNotNull();
+            assertThat(client.network.getNodes().get(0).transportExecutor).isInstanceOf(QueueDepthExecutor.class);
+
+            var future = new CompletableFuture<String>();
+            var thread = client.completeOnCallbackExecutor(future)
+                    .thenApply(result -> Thread.currentThread().getName());
+            future.complete("done");
+
+            assertThat(thread.get(5, TimeUnit.SECONDS)).isEqualTo("callbacks");
+            assertThat(client.getCallbackQueueDepth()).isZero();
+            assertThat(client.getTransportQueueDepth()).isZero();
+
+            var cancelled = new CompletableFuture<String>();
+            client.completeOnCallbackExecutor(cancelled).cancel(false);
+            assertThat(cancelled.isCancelled()).isTrue();
+        } finally {
+            callbackExecutor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Address book snapshot of the same ledger replaces the bundled address book")
+    void addressBookSnapshotIsLoaded(@TempDir Path directory) throws Exception {
+        var file = directory.resolve("addressbook.json");
+        var node = Network.readAddressBookResource("addressbook/testnet.pb").get(new AccountId(0, 0, 3));
+        var addressBook = new NodeAddressBook().setNodeAddresses(List.of(node));
+        new AddressBookSnapshot(LedgerId.TESTNET, Instant.now(), addressBook).write(file);
+
+        try (var client = Client.forTestnet().setAddressBookSnapshotFile(file)) {
+            assertThat(client.getNetwork().values()).containsOnly(new AccountId(0, 0, 3));
+            assertThat(client.network.addressBook).containsOnlyKeys(new AccountId(0, 0, 3));
+        }
+
+        try (var client = Client.forMainnet().setAddressBookSnapshotFile(file)) {
+            assertThat(client.getNetwork().values()).contains(new AccountId(0, 0, 3), new AccountId(0, 0, 4));
+        }
+
+        var read = AddressBookSnapshot.read(file);
+        assertThat(read).isNotNull();
+        assertThat(read.ledgerId).isEqualTo(LedgerId.TESTNET);
+        assertThat(read.addressBook.getNodeAddresses()).hasSize(1);
+        assertThat(AddressBookSnapshot.read(directory.resolve("missing.json"))).isNull();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @DisplayName("Can construct mainnet client with virtual threads")
+    void forMainnetWithVirtualThreads() throws Exception {
+        var client = Client.forMainnetWithVirtualThreads();
+
+        // Thread.isVirtual() is not part of the Java 17 API the tests compile against
+        var isVirtual = client.executor.submit(
+                () -> (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+        assertThat(isVirtual.get(5, TimeUnit.SECONDS)).isTrue();
+
+        client.close();
+        assertThat(client.executor.isShutdown()).isTrue();
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    @DisplayName("Virtual threads are unsupported before Java 21")
+    void createVirtualThreadExecutorBeforeJava21() {
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(Client::createVirtualThreadExecutor);
+    }
+
     @Test
     @DisplayName("Can construct testnet client with executor")
     void forTestnetWithExecutor() throws TimeoutException {
@@ -298,8 +473,8 @@ class ClientTest {
     }
 
     @Test
-    @DisplayName("setMirrorNetwork() throws exception if there is no time to remove the old nodes")
-    void setMirrorNetworkFails() throws Exception {
+    @DisplayName("setMirrorNetwork() does not wait for the removed nodes to shut down")
+    void setMirrorNetworkDoesNotWaitForRemovedNodes() throws Exception {
         var defaultNetwork = List.of("testnet.mirrornode.hedera.com:443", "testnet.mirrornode2.hedera.com:443");
 
         Client client = Client.forNetwork(new HashMap<>()).setMirrorNetwork(defaultNetwork);
@@ -308,8 +483,10 @@ class ClientTest {
         client.setCloseTimeout(Duration.ZERO);
         final List<String> updatedNetwork = List.of("testnet.mirrornode.hedera.com:443");
 
-        assertThatThrownBy(() -> client.setMirrorNetwork(updatedNetwork))
-                .hasMessageEndingWith("Failed to properly shutdown all channels");
+        client.setMirrorNetwork(updatedNetwork);
+        assertThat(client.getMirrorNetwork()).containsExactlyElementsOf(updatedNetwork);
+
+        client.close();
     }
 
     @Test
@@ -422,13 +599,24 @@ class ClientTest {
         return builder.build();
     }
 
+    @Test
+    void retryBudgetIsUnlimitedByDefault() throws TimeoutException {
+        try (var client = Client.forNetwork(Map.of())) {
+            var retryBudget = client.getRetryBudget();
+
+            assertThat(retryBudget).isSameAs(RetryBudget.unlimited());
+            for (var i = 0; i < 1000; i++) {
+                assertThat(retryBudget.tryAcquire()).isTrue();
+            }
+        }
+    }
+
     @Test
     @DisplayName("setNetworkFromAddressBook() updates security parameters in the client")
     void setNetworkFromAddressBook() throws Exception {
         try (Client client = Client.forNetwork(Map.of())) {
             Function<Integer, NodeAddress> nodeAddress = accountNum -> client.network
-                    .network
-                    .get(new AccountId(0, 0, accountNum))
+                    .getNodeProxies(new AccountId(0, 0, accountNum))
                     .get(0)
                     .getAddressBookEntry();
 
@@ -485,9 +673,9 @@ class ClientTest {
         var client = Client.forTestnet();
         client.setNetwork(Map.of("1.2.3.4:50211", AccountId.fromString("0.0.3")));
 
-        assertThat(client.network.nodes.get(0).getChannelCredentials()).isNotNull();
+        assertThat(client.network.getNodes().get(0).getChannelCredentials()).isNotNull();
 
-        var addressBookEntry = client.network.nodes.get(0).getAddressBookEntry();
+        var addressBookEntry = client.network.getNodes().get(0).getAddressBookEntry();
 
         assertThat(addressBookEntry).isNotNull();
         assertThat(addressBookEntry.certHash).isNotNull();
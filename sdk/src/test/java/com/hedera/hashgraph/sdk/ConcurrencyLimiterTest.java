@@ -0,0 +1,122 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimiterTest {
+    @Test
+    void rejectsInvalidLimits() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new ConcurrencyLimiter(1, 0, 2));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new ConcurrencyLimiter(3, 1, 2));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new ConcurrencyLimiter(2, 3, 4));
+    }
+
+    @Test
+    void successGrowsLimitByOnePerWindow() {
+        var limiter = new ConcurrencyLimiter(4, 1, 8);
+
+        for (var i = 0; i < 4; i++) {
+            limiter.acquire().join().success();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        limiter.acquire().join().success();
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void limitStaysWithinBounds() {
+        var limiter = new ConcurrencyLimiter(2, 2, 3);
+
+        for (var i = 0; i < 100; i++) {
+            limiter.acquire().join().success();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(3);
+
+        for (var i = 0; i < 10; i++) {
+            limiter.acquire().join().overload();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void overloadHalvesLimitOncePerWindow() {
+        var limiter = new ConcurrencyLimiter(16, 1, 32);
+
+        var permits = new ArrayList<ConcurrencyLimiter.Permit>();
+        for (var i = 0; i < 8; i++) {
+            permits.add(limiter.acquire().join());
+        }
+
+        // All of these were sent before the first decrease, so only the first one counts
+        for (var permit : permits) {
+            permit.overload();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(8);
+
+        limiter.acquire().join().overload();
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void waitersAreAdmittedInOrderWhenPermitsAreReleased() {
+        var limiter = new ConcurrencyLimiter(1, 1, 1);
+
+        var first = limiter.acquire().join();
+        var second = limiter.acquire();
+        var third = limiter.acquire();
+
+        assertThat(second).isNotDone();
+        assertThat(limiter.getWaiting()).isEqualTo(2);
+
+        first.release();
+        assertThat(second).isDone();
+        assertThat(third).isNotDone();
+
+        // releasing twice has no effect
+        first.release();
+        assertThat(third).isNotDone();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+
+        second.join().release();
+        assertThat(third).isDone();
+    }
+
+    @Test
+    void cancelledWaitersAreSkipped() {
+        var limiter = new ConcurrencyLimiter(1, 1, 1);
+
+        var first = limiter.acquire().join();
+        var cancelled = limiter.acquire();
+        var waiting = limiter.acquire();
+
+        cancelled.cancel(false);
+        first.release();
+
+        assertThat(waiting).isDone();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getWaiting()).isZero();
+    }
+
+    @Test
+    void tryAcquireDoesNotWait() {
+        var limiter = new ConcurrencyLimiter(1, 1, 1);
+
+        var first = limiter.tryAcquire();
+        assertThat(first).isNotNull();
+        assertThat(limiter.tryAcquire()).isNull();
+        assertThat(limiter.getWaiting()).isZero();
+
+        // a request which does not wait does not overtake the waiting ones
+        var waiter = limiter.acquire();
+        first.release();
+
+        assertThat(waiter).isDone();
+        assertThat(limiter.tryAcquire()).isNull();
+    }
+}
@@ -5,6 +5,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.hashgraph.sdk.utils.Bip32Utils;
 import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -114,6 +121,25 @@ public class ECDSAPrivateKeyTest {
         assertThat(key.isED25519()).isFalse();
     }
 
+    @Test
+    @DisplayName("private key signs like BouncyCastle")
+    void signMatchesECDSASigner() {
+        var key = (PrivateKeyECDSA) PrivateKey.generateECDSA();
+        var signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+        signer.init(true, new ECPrivateKeyParameters(new BigInteger(1, key.toBytesRaw()), Key.ECDSA_SECP256K1_DOMAIN));
+
+        for (var i = 0; i < 32; i++) {
+            var message = ("message " + i).getBytes(StandardCharsets.UTF_8);
+            var expected = signer.generateSignature(Crypto.calcKeccak256(message));
+
+            var signature = key.sign(message);
+
+            assertThat(signature).hasSize(64);
+            assertThat(new BigInteger(1, Arrays.copyOfRange(signature, 0, 32))).isEqualTo(expected[0]);
+            assertThat(new BigInteger(1, Arrays.copyOfRange(signature, 32, 64))).isEqualTo(expected[1]);
+        }
+    }
+
     // TODO: replace with HexFormat.of().parseHex when the required Java version is 17
     public static byte[] hexStringToByteArray(String s) {
         int len = s.length();
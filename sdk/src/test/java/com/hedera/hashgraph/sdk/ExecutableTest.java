@@ -4,6 +4,10 @@ package com.hedera.hashgraph.sdk;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -15,17 +19,24 @@ import com.hedera.hashgraph.sdk.proto.QueryHeader;
 import com.hedera.hashgraph.sdk.proto.Response;
 import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
 import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import io.grpc.ClientCall;
+import io.grpc.Deadline;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.StatusRuntimeException;
 import java.time.Duration;
-import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -285,8 +296,8 @@ class ExecutableTest {
         when(node3.isHealthy()).thenReturn(true);
         when(node4.isHealthy()).thenReturn(true);
 
-        when(node3.channelFailedToConnect(any(Instant.class))).thenReturn(true);
-        when(node4.channelFailedToConnect(any(Instant.class))).thenReturn(false);
+        when(node3.channelFailedToConnect(any(Deadline.class))).thenReturn(true);
+        when(node4.channelFailedToConnect(any(Deadline.class))).thenReturn(false);
 
         var now = java.time.Instant.now();
         var tx = new DummyTransaction() {
@@ -316,11 +327,45 @@ class ExecutableTest {
         com.hedera.hashgraph.sdk.TransactionResponse resp =
                 (com.hedera.hashgraph.sdk.TransactionResponse) tx.execute(client);
 
-        verify(node3).channelFailedToConnect(any(Instant.class));
-        verify(node4).channelFailedToConnect(any(Instant.class));
+        verify(node3).channelFailedToConnect(any(Deadline.class));
+        verify(node4).channelFailedToConnect(any(Deadline.class));
         assertThat(resp.nodeId).isEqualTo(new AccountId(0, 0, 4));
     }
 
+    @Test
+    void executionListenerReceivesAttemptEvents() throws PrecheckStatusException, TimeoutException {
+        var listener = Mockito.mock(ExecutionListener.class);
+        client.setExecutionListener(listener);
+
+        when(node3.isHealthy()).thenReturn(true);
+        when(node4.isHealthy()).thenReturn(true);
+
+        when(node3.channelFailedToConnect(any(Deadline.class))).thenReturn(true);
+        when(node4.channelFailedToConnect(any(Deadline.class))).thenReturn(false);
+
+        var tx = new DummyTransaction();
+        tx.setNodeAccountIds(nodeAccountIds);
+
+        var txResp = com.hedera.hashgraph.sdk.proto.TransactionResponse.newBuilder()
+                .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                .build();
+
+        tx.blockingUnaryCall = (grpcRequest) -> txResp;
+        tx.execute(client);
+
+        verify(listener, never()).onAttemptStart("DummyTransaction", new AccountId(0, 0, 3), 1);
+        verify(listener).onConnectionFailure("DummyTransaction", new AccountId(0, 0, 3), 1);
+        verify(listener).onAttemptStart("DummyTransaction", new AccountId(0, 0, 4), 2);
+        verify(listener)
+                .onAttemptEnd(
+                        eq("DummyTransaction"),
+                        eq(new AccountId(0, 0, 4)),
+                        eq(2),
+                        any(Duration.class),
+                        eq(Status.OK),
+                        eq(ExecutionState.SUCCESS));
+    }
+
     @Test
     void executeWithAllUnhealthyNodes() throws PrecheckStatusException, TimeoutException {
         AtomicInteger i = new AtomicInteger();
@@ -333,9 +378,9 @@ class ExecutableTest {
         when(node4.isHealthy()).thenAnswer((Answer<Boolean>) inv -> i.get() == 0);
         when(node5.isHealthy()).thenAnswer((Answer<Boolean>) inv -> i.get() == 0);
 
-        when(node3.channelFailedToConnect(any(Instant.class))).thenAnswer((Answer<Boolean>) inv -> i.get() == 0);
-        when(node4.channelFailedToConnect(any(Instant.class))).thenAnswer((Answer<Boolean>) inv -> i.get() == 0);
-        when(node5.channelFailedToConnect(any(Instant.class)))
+        when(node3.channelFailedToConnect(any(Deadline.class))).thenAnswer((Answer<Boolean>) inv -> i.get() == 0);
+        when(node4.channelFailedToConnect(any(Deadline.class))).thenAnswer((Answer<Boolean>) inv -> i.get() == 0);
+        when(node5.channelFailedToConnect(any(Deadline.class)))
                 .thenAnswer((Answer<Boolean>) inv -> i.getAndIncrement() == 0);
 
         when(node3.getRemainingTimeForBackoff()).thenReturn(500L);
@@ -370,9 +415,9 @@ class ExecutableTest {
         com.hedera.hashgraph.sdk.TransactionResponse resp =
                 (com.hedera.hashgraph.sdk.TransactionResponse) tx.execute(client);
 
-        verify(node3, times(2)).channelFailedToConnect(any(Instant.class));
-        verify(node4).channelFailedToConnect(any(Instant.class));
-        verify(node5).channelFailedToConnect(any(Instant.class));
+        verify(node3, times(2)).channelFailedToConnect(any(Deadline.class));
+        verify(node4).channelFailedToConnect(any(Deadline.class));
+        verify(node5).channelFailedToConnect(any(Deadline.class));
         assertThat(resp.nodeId).isEqualTo(new AccountId(0, 0, 3));
     }
 
@@ -382,9 +427,9 @@ class ExecutableTest {
         when(node4.isHealthy()).thenReturn(true);
         when(node5.isHealthy()).thenReturn(true);
 
-        when(node3.channelFailedToConnect(any(Instant.class))).thenReturn(true);
-        when(node4.channelFailedToConnect(any(Instant.class))).thenReturn(true);
-        when(node5.channelFailedToConnect(any(Instant.class))).thenReturn(true);
+        when(node3.channelFailedToConnect(any(Deadline.class))).thenReturn(true);
+        when(node4.channelFailedToConnect(any(Deadline.class))).thenReturn(true);
+        when(node5.channelFailedToConnect(any(Deadline.class))).thenReturn(true);
 
         var tx = new DummyTransaction();
         var nodeAccountIds = Arrays.asList(new AccountId(0, 0, 3), new AccountId(0, 0, 4), new AccountId(0, 0, 5));
@@ -399,8 +444,8 @@ class ExecutableTest {
         when(node3.isHealthy()).thenReturn(true);
         when(node4.isHealthy()).thenReturn(true);
 
-        when(node3.channelFailedToConnect(any(Instant.class))).thenReturn(false);
-        when(node4.channelFailedToConnect(any(Instant.class))).thenReturn(false);
+        when(node3.channelFailedToConnect(any(Deadline.class))).thenReturn(false);
+        when(node4.channelFailedToConnect(any(Deadline.class))).thenReturn(false);
 
         var tx = new DummyTransaction();
         var nodeAccountIds = Arrays.asList(new AccountId(0, 0, 3), new AccountId(0, 0, 4), new AccountId(0, 0, 5));
@@ -416,8 +461,8 @@ class ExecutableTest {
 
         assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> tx.execute(client));
 
-        verify(node3).channelFailedToConnect(any(Instant.class));
-        verify(node4).channelFailedToConnect(any(Instant.class));
+        verify(node3).channelFailedToConnect(any(Deadline.class));
+        verify(node4).channelFailedToConnect(any(Deadline.class));
     }
 
     @Test
@@ -435,7 +480,7 @@ class ExecutableTest {
         };
 
         when(node3.isHealthy()).thenReturn(true);
-        when(node3.channelFailedToConnect(any(Instant.class))).thenReturn(true);
+        when(node3.channelFailedToConnect(any(Deadline.class))).thenReturn(true);
 
         assertThatExceptionOfType(MaxAttemptsExceededException.class)
                 .isThrownBy(() -> transactionResponse.getReceipt(client, Duration.ofSeconds(2)));
@@ -475,8 +520,265 @@ class ExecutableTest {
         tx.blockingUnaryCall = (grpcRequest) -> resp;
         tx.execute(client);
 
-        verify(node3).channelFailedToConnect(any(Instant.class));
-        verify(node4).channelFailedToConnect(any(Instant.class));
+        verify(node3).channelFailedToConnect(any(Deadline.class));
+        verify(node4).channelFailedToConnect(any(Deadline.class));
+    }
+
+    @Test
+    void adaptiveConcurrencyShrinksLimitsOnBusy() throws PrecheckStatusException, TimeoutException {
+        client.setAdaptiveConcurrency(true);
+        var clientLimit = client.getConcurrencyLimiter().getLimit();
+        var node3Limiter = new ConcurrencyLimiter(8, 1, 16);
+        var node4Limiter = new ConcurrencyLimiter(8, 1, 16);
+
+        when(node3.isHealthy()).thenReturn(true);
+        when(node4.isHealthy()).thenReturn(true);
+        when(node3.getConcurrencyLimiter()).thenReturn(node3Limiter);
+        when(node4.getConcurrencyLimiter()).thenReturn(node4Limiter);
+
+        AtomicInteger i = new AtomicInteger();
+        var tx = new DummyQuery() {
+            @Override
+            Status mapResponseStatus(com.hedera.hashgraph.sdk.proto.Response response) {
+                return i.get() == 0 ? Status.BUSY : Status.OK;
+            }
+
+            @Override
+            ExecutionState getExecutionState(Status status, Response response) {
+                return i.getAndIncrement() == 0 ? ExecutionState.RETRY : ExecutionState.SUCCESS;
+            }
+        };
+        tx.setNodeAccountIds(nodeAccountIds);
+        tx.setMinBackoff(Duration.ofMillis(1));
+        tx.setMaxBackoff(Duration.ofMillis(1));
+
+        tx.blockingUnaryCall = (grpcRequest) -> Response.getDefaultInstance();
+        tx.execute(client);
+
+        assertThat(node3Limiter.getLimit()).isEqualTo(4);
+        assertThat(node4Limiter.getLimit()).isEqualTo(8);
+        assertThat(client.getConcurrencyLimiter().getLimit()).isEqualTo(clientLimit / 2);
+        assertThat(node3Limiter.getInFlight()).isZero();
+        assertThat(node4Limiter.getInFlight()).isZero();
+        assertThat(client.getConcurrencyLimiter().getInFlight()).isZero();
+    }
+
+    @Test
+    void asyncPermitWaitEndsAtTheDeadline() {
+        client.setAdaptiveConcurrency(true);
+        var nodeLimiter = new ConcurrencyLimiter(1, 1, 1);
+        var heldPermit = nodeLimiter.acquire().join();
+
+        when(node3.isHealthy()).thenReturn(true);
+        when(node3.hasConnected()).thenReturn(true);
+        when(node3.getConcurrencyLimiter()).thenReturn(nodeLimiter);
+
+        var tx = new DummyTransaction();
+        tx.setNodeAccountIds(List.of(new AccountId(0, 0, 3)));
+
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(
+                        () -> tx.executeAsync(client, Duration.ofMillis(200)).get(5, TimeUnit.SECONDS))
+                .withCauseInstanceOf(TimeoutException.class);
+
+        // the request which timed out does not take the permit once it is released
+        heldPermit.release();
+        assertThat(nodeLimiter.getInFlight()).isZero();
+        assertThat(client.getConcurrencyLimiter().getInFlight()).isZero();
+        verify(node3, never()).getChannel();
+    }
+
+    @Test
+    void cancelledAsyncExecutionStopsWaitingForPermits() {
+        client.setAdaptiveConcurrency(true);
+        var nodeLimiter = new ConcurrencyLimiter(1, 1, 1);
+        var heldPermit = nodeLimiter.acquire().join();
+
+        when(node3.isHealthy()).thenReturn(true);
+        when(node3.hasConnected()).thenReturn(true);
+        when(node3.getConcurrencyLimiter()).thenReturn(nodeLimiter);
+
+        var tx = new DummyTransaction();
+        tx.setNodeAccountIds(List.of(new AccountId(0, 0, 3)));
+
+        var future = tx.executeAsync(client);
+
+        // the node's permit is waited for first, without holding a permit of the client
+        assertThat(nodeLimiter.getWaiting()).isEqualTo(1);
+        assertThat(client.getConcurrencyLimiter().getInFlight()).isZero();
+
+        future.cancel(false);
+        heldPermit.release();
+
+        assertThat(nodeLimiter.getInFlight()).isZero();
+        assertThat(client.getConcurrencyLimiter().getInFlight()).isZero();
+        verify(node3, never()).getChannel();
+    }
+
+    @Test
+    void asyncExecutionRetriesFailedCalls() throws Exception {
+        when(node3.isHealthy()).thenReturn(true);
+
+        var calls = new CopyOnWriteArrayList<AccountId>();
+        var answers = new ArrayDeque<Object>(List.of(
+                io.grpc.Status.UNAVAILABLE, io.grpc.Status.UNAVAILABLE, transactionResponse(ResponseCodeEnum.OK)));
+        answerCalls(node3, calls, answers::poll);
+
+        var tx = new StatusMappingTransaction();
+        tx.setNodeAccountIds(List.of(new AccountId(0, 0, 3)));
+        tx.setMinBackoff(Duration.ofMillis(1));
+        tx.setMaxBackoff(Duration.ofMillis(1));
+
+        tx.executeAsync(client).get(5, TimeUnit.SECONDS);
+
+        assertThat(calls).hasSize(3);
+    }
+
+    @Test
+    void asyncExecutionRotatesNodes() throws Exception {
+        when(node3.isHealthy()).thenReturn(true);
+        when(node4.isHealthy()).thenReturn(true);
+        when(node5.isHealthy()).thenReturn(true);
+
+        var calls = new CopyOnWriteArrayList<AccountId>();
+        answerCalls(node3, calls, () -> transactionResponse(ResponseCodeEnum.BUSY));
+        answerCalls(node4, calls, () -> transactionResponse(ResponseCodeEnum.BUSY));
+        answerCalls(node5, calls, () -> transactionResponse(ResponseCodeEnum.OK));
+
+        var tx = new StatusMappingTransaction();
+        tx.setNodeAccountIds(nodeAccountIds);
+        tx.setMinBackoff(Duration.ofMillis(1));
+        tx.setMaxBackoff(Duration.ofMillis(1));
+
+        tx.executeAsync(client).get(5, TimeUnit.SECONDS);
+
+        assertThat(calls).containsExactlyElementsOf(nodeAccountIds);
+    }
+
+    @Test
+    void asyncExecutionStopsRetryingAtTheDeadline() throws Exception {
+        when(node3.isHealthy()).thenReturn(true);
+
+        var calls = new CopyOnWriteArrayList<AccountId>();
+        answerCalls(node3, calls, () -> transactionResponse(ResponseCodeEnum.BUSY));
+
+        var tx = new StatusMappingTransaction();
+        tx.setNodeAccountIds(List.of(new AccountId(0, 0, 3)));
+        tx.setMaxAttempts(1000);
+        tx.setMinBackoff(Duration.ofMillis(10));
+        tx.setMaxBackoff(Duration.ofMillis(10));
+
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(
+                        () -> tx.executeAsync(client, Duration.ofMillis(200)).get(5, TimeUnit.SECONDS))
+                .withCauseInstanceOf(TimeoutException.class);
+
+        var callsAtDeadline = calls.size();
+        Thread.sleep(100);
+        assertThat(calls).hasSize(callsAtDeadline);
+    }
+
+    @Test
+    void cancelledAsyncExecutionStopsRetrying() throws Exception {
+        when(node3.isHealthy()).thenReturn(true);
+
+        var calls = new CopyOnWriteArrayList<AccountId>();
+        answerCalls(node3, calls, () -> transactionResponse(ResponseCodeEnum.BUSY));
+
+        var tx = new StatusMappingTransaction();
+        tx.setNodeAccountIds(List.of(new AccountId(0, 0, 3)));
+        tx.setMinBackoff(Duration.ofMillis(100));
+        tx.setMaxBackoff(Duration.ofMillis(100));
+
+        // the first call is answered right away, the retry waits for the backoff
+        var future = tx.executeAsync(client);
+        assertThat(calls).hasSize(1);
+
+        future.cancel(false);
+        Thread.sleep(300);
+
+        assertThat(future).isCancelled();
+        assertThat(calls).hasSize(1);
+    }
+
+    @Test
+    void onlySuccessfulHealthProbesCloseTheCircuit() throws Exception {
+        when(node3.isHealthy()).thenReturn(true);
+        when(node3.channelFailedToConnect(any(Deadline.class))).thenReturn(false);
+
+        var tx = new StatusMappingTransaction();
+        tx.setNodeAccountIds(List.of(new AccountId(0, 0, 3)));
+        tx.setTargetNode(node3);
+        tx.setMaxAttempts(1);
+
+        tx.blockingUnaryCall = (grpcRequest) -> transactionResponse(ResponseCodeEnum.BUSY);
+        assertThatExceptionOfType(MaxAttemptsExceededException.class).isThrownBy(() -> tx.execute(client));
+        verify(node3, never()).closeHalfOpenCircuit();
+
+        tx.blockingUnaryCall = (grpcRequest) -> transactionResponse(ResponseCodeEnum.OK);
+        tx.execute(client);
+        verify(node3).closeHalfOpenCircuit();
+
+        // a probe does not count towards the latency of the node
+        verify(node3, never()).recordResponse(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void exhaustedRetryBudgetFailsFast() {
+        var retryBudget = new RetryBudget(0, 0, 1);
+        client.setRetryBudget(retryBudget);
+
+        when(node3.isHealthy()).thenReturn(true);
+        when(node4.isHealthy()).thenReturn(true);
+        when(node5.isHealthy()).thenReturn(true);
+
+        var calls = new AtomicInteger();
+        var tx = new DummyQuery() {
+            @Override
+            Status mapResponseStatus(com.hedera.hashgraph.sdk.proto.Response response) {
+                return Status.PLATFORM_NOT_ACTIVE;
+            }
+        };
+        tx.setNodeAccountIds(nodeAccountIds);
+        tx.blockingUnaryCall = (grpcRequest) -> {
+            calls.incrementAndGet();
+            return Response.getDefaultInstance();
+        };
+
+        // The first attempt is free and the bucket holds a single retry
+        assertThatExceptionOfType(RetryBudgetExhaustedException.class)
+                .isThrownBy(() -> tx.execute(client))
+                .withCauseInstanceOf(PrecheckStatusException.class);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(retryBudget.getRetriesAllowed()).isEqualTo(1);
+        assertThat(retryBudget.getRetriesRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void requestRetryBudgetOverridesClientBudget() {
+        client.setRetryBudget(new RetryBudget(0, 0, 1));
+
+        when(node3.isHealthy()).thenReturn(true);
+        when(node4.isHealthy()).thenReturn(true);
+        when(node5.isHealthy()).thenReturn(true);
+
+        var calls = new AtomicInteger();
+        var tx = new DummyQuery() {
+            @Override
+            Status mapResponseStatus(com.hedera.hashgraph.sdk.proto.Response response) {
+                return Status.PLATFORM_NOT_ACTIVE;
+            }
+        };
+        tx.setNodeAccountIds(nodeAccountIds);
+        tx.setMaxAttempts(4);
+        tx.setRetryBudget(RetryBudget.unlimited());
+        tx.blockingUnaryCall = (grpcRequest) -> {
+            calls.incrementAndGet();
+            return Response.getDefaultInstance();
+        };
+
+        assertThatExceptionOfType(MaxAttemptsExceededException.class).isThrownBy(() -> tx.execute(client));
+        assertThat(calls.get()).isEqualTo(4);
     }
 
     @Test
@@ -500,7 +802,7 @@ class ExecutableTest {
         tx.blockingUnaryCall = (grpcRequest) -> txResp;
         assertThatExceptionOfType(PrecheckStatusException.class).isThrownBy(() -> tx.execute(client));
 
-        verify(node3).channelFailedToConnect(any(Instant.class));
+        verify(node3).channelFailedToConnect(any(Deadline.class));
     }
 
     @Test
@@ -536,10 +838,9 @@ class ExecutableTest {
         @Override
         void onExecute(Client client) {}
 
-        @Nullable
         @Override
         CompletableFuture<Void> onExecuteAsync(Client client) {
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
 
         @Nullable
@@ -576,6 +877,68 @@ class ExecutableTest {
         }
     }
 
+    /**
+     * A transaction whose status is the precheck code of the response.
+     */
+    static class StatusMappingTransaction extends DummyTransaction {
+        @Override
+        Status mapResponseStatus(com.hedera.hashgraph.sdk.proto.TransactionResponse response) {
+            return Status.valueOf(response.getNodeTransactionPrecheckCode());
+        }
+    }
+
+    private static com.hedera.hashgraph.sdk.proto.TransactionResponse transactionResponse(ResponseCodeEnum code) {
+        return com.hedera.hashgraph.sdk.proto.TransactionResponse.newBuilder()
+                .setNodeTransactionPrecheckCode(code)
+                .build();
+    }
+
+    /**
+     * Answer the calls to a node right away, with a response or with the {@link io.grpc.Status} to fail the call
+     * with.
+     *
+     * @param node    the node
+     * @param calls   the nodes which were called, in order
+     * @param answers the answer to each call
+     */
+    private static void answerCalls(Node node, List<AccountId> calls, Supplier<Object> answers) {
+        var channel = Mockito.mock(ManagedChannel.class);
+        when(channel.newCall(any(), any())).thenAnswer(invocation -> new ClientCall<Object, Object>() {
+            @Nullable
+            private Listener<Object> listener;
+
+            @Override
+            public void start(Listener<Object> listener, Metadata headers) {
+                this.listener = listener;
+            }
+
+            @Override
+            public void request(int numMessages) {}
+
+            @Override
+            public void cancel(@Nullable String message, @Nullable Throwable cause) {}
+
+            @Override
+            public void halfClose() {
+                calls.add(node.getAccountId());
+
+                var answer = answers.get();
+                if (answer instanceof io.grpc.Status status) {
+                    listener.onClose(status, new Metadata());
+                } else {
+                    listener.onMessage(answer);
+                    listener.onClose(io.grpc.Status.OK, new Metadata());
+                }
+            }
+
+            @Override
+            public void sendMessage(Object message) {}
+        });
+
+        when(node.getChannel()).thenReturn(channel);
+        when(node.hasConnected()).thenReturn(true);
+    }
+
     static class DummyQuery extends Query<TransactionReceipt, TransactionReceiptQuery> {
         @Override
         void onExecute(Client client) {}
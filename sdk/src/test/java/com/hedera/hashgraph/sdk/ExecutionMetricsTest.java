@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ExecutionMetricsTest {
+    private static final AccountId NODE = new AccountId(0, 0, 3);
+
+    @Test
+    void countsEventsPerNode() {
+        var metrics = new ExecutionMetrics();
+
+        metrics.onAttemptStart("AccountBalanceQuery", NODE, 1);
+        metrics.onAttemptEnd("AccountBalanceQuery", NODE, 1, Duration.ofMillis(10), Status.BUSY, ExecutionState.RETRY);
+        metrics.onBackoff("AccountBalanceQuery", NODE, 1, Duration.ofMillis(250));
+        metrics.onAttemptStart("AccountBalanceQuery", NODE, 2);
+        metrics.onAttemptEnd("AccountBalanceQuery", NODE, 2, Duration.ofMillis(20), Status.OK, ExecutionState.SUCCESS);
+        metrics.onConnectionFailure("AccountBalanceQuery", NODE, 3);
+        metrics.onNodeBackoff(NODE, Duration.ofSeconds(8));
+        metrics.onNodeReadmitted(NODE);
+        metrics.onRetryBudgetExhausted("AccountBalanceQuery", 4);
+
+        var node = metrics.getNodeMetrics(NODE);
+        assertThat(node).isNotNull();
+        assertThat(node.getAttempts()).isEqualTo(2);
+        assertThat(node.getRetries()).isEqualTo(1);
+        assertThat(node.getBusy()).isEqualTo(1);
+        assertThat(node.getSuccesses()).isEqualTo(1);
+        assertThat(node.getBackoffs()).isEqualTo(1);
+        assertThat(node.getTotalBackoff()).isEqualTo(Duration.ofMillis(250));
+        assertThat(node.getConnectionFailures()).isEqualTo(1);
+        assertThat(node.getMarkedUnhealthy()).isEqualTo(1);
+        assertThat(node.getReadmissions()).isEqualTo(1);
+        assertThat(node.getLatency().getCount()).isEqualTo(2);
+        assertThat(node.getLatency().getMean()).isEqualTo(Duration.ofMillis(15));
+
+        assertThat(metrics.getRetryBudgetExhausted()).isEqualTo(1);
+        assertThat(metrics.getNodeMetrics()).containsOnlyKeys(NODE);
+        assertThat(metrics.getNodeMetrics(new AccountId(0, 0, 4))).isNull();
+    }
+
+    @Test
+    void histogramPercentilesAreUpperBounds() {
+        var histogram = new LatencyHistogram();
+
+        assertThat(histogram.getPercentile(99)).isEqualTo(Duration.ZERO);
+
+        for (var i = 1; i <= 100; i++) {
+            histogram.record(Duration.ofMillis(i));
+        }
+
+        var p50 = histogram.getPercentile(50);
+        var p99 = histogram.getPercentile(99);
+        assertThat(p50).isBetween(Duration.ofMillis(50), Duration.ofMillis(63));
+        assertThat(p99).isBetween(Duration.ofMillis(99), Duration.ofMillis(124));
+        assertThat(histogram.getPercentile(100)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void histogramBucketsCoverTheirValues() {
+        for (long micros : new long[] {0, 1, 3, 4, 7, 8, 9, 1000, 123_456, 4_000_000_000L}) {
+            var bucket = LatencyHistogram.bucketOf(micros);
+            assertThat(LatencyHistogram.upperBoundOf(bucket)).isGreaterThanOrEqualTo(micros);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(bucket - 1)).isLessThan(micros);
+            }
+        }
+    }
+
+    @Test
+    void recordsConcurrently() throws InterruptedException {
+        var metrics = new ExecutionMetrics();
+        var executor = Executors.newFixedThreadPool(4);
+
+        for (var i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                for (var j = 0; j < 10_000; j++) {
+                    metrics.onAttemptEnd(
+                            "AccountBalanceQuery",
+                            NODE,
+                            1,
+                            Duration.ofMillis(j % 100),
+                            Status.OK,
+                            ExecutionState.SUCCESS);
+                }
+            });
+        }
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        var node = metrics.getNodeMetrics(NODE);
+        assertThat(node.getSuccesses()).isEqualTo(40_000);
+        assertThat(node.getLatency().getCount()).isEqualTo(40_000);
+    }
+}
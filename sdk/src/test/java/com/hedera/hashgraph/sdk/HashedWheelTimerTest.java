@@ -0,0 +1,99 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HashedWheelTimerTest {
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        // A small wheel, so the delays below span several rotations
+        timer = new HashedWheelTimer(Duration.ofMillis(1), 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.close();
+    }
+
+    private void awaitNoPendingTimeouts() throws InterruptedException {
+        for (var i = 0; i < 100 && timer.pendingTimeouts() > 0; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new HashedWheelTimer(Duration.ofNanos(1), 8));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new HashedWheelTimer(Duration.ofMillis(10), 0));
+    }
+
+    @Test
+    void runsTasksNoEarlierThanTheirDelay() throws Exception {
+        var latch = new CountDownLatch(3);
+        var start = System.nanoTime();
+
+        timer.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS);
+        timer.schedule(latch::countDown, 5, TimeUnit.MILLISECONDS);
+        var last = timer.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(last.isExpired()).isTrue();
+        assertThat(last.cancel()).isFalse();
+
+        awaitNoPendingTimeouts();
+        assertThat(timer.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    void cancelledTasksAreRemovedAndNeverRun() throws Exception {
+        var ran = new AtomicBoolean();
+
+        var timeout = timer.schedule(() -> ran.set(true), 50, TimeUnit.MILLISECONDS);
+        assertThat(timer.pendingTimeouts()).isEqualTo(1);
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(timeout.isCancelled()).isTrue();
+
+        awaitNoPendingTimeouts();
+        assertThat(timer.pendingTimeouts()).isZero();
+
+        Thread.sleep(100);
+        assertThat(ran).isFalse();
+        assertThat(timeout.isExpired()).isFalse();
+    }
+
+    @Test
+    void cancellingADelayRemovesItFromTheTimer() throws Exception {
+        var delay = Delayer.delayFor(10_000, timer, Runnable::run);
+        assertThat(timer.pendingTimeouts()).isEqualTo(1);
+
+        delay.cancel(false);
+
+        awaitNoPendingTimeouts();
+        assertThat(timer.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    void closedTimerRejectsTasks() {
+        timer.close();
+
+        assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> timer.schedule(() -> {}, 1, TimeUnit.MILLISECONDS));
+    }
+}
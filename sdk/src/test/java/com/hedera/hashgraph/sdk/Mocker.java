@@ -100,7 +100,9 @@ public class Mocker implements AutoCloseable {
             }
         }
 
+        // Responses are scripted per node, so background probes must not consume them
         this.client = Client.forNetwork(network)
+                .setProbeUnhealthyNodes(false)
                 .setOperator(new AccountId(0, 0, 1800), PRIVATE_KEY)
                 .setMinBackoff(Duration.ofMillis(0))
                 .setMaxBackoff(Duration.ofMillis(0))
@@ -35,6 +35,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Assertions;
@@ -463,6 +465,36 @@ class MockingTest {
         server.close();
     }
 
+    @Test
+    @DisplayName("Batch signer signs the bodies of a regenerated transaction ID in one call")
+    void batchSignerSignsRegeneratedBodiesInOneCall() throws Exception {
+        var service = new TestCryptoService();
+        var server = new TestServer("batchSignerSignsRegeneratedBodiesInOneCall", service);
+
+        service.buffer.enqueueResponse(TestResponse.transaction(com.hedera.hashgraph.sdk.Status.TRANSACTION_EXPIRED));
+        service.buffer.enqueueResponse(TestResponse.transactionOk());
+
+        var key = PrivateKey.generateED25519();
+        var batchSizes = new CopyOnWriteArrayList<Integer>();
+        TransactionSigner signer = messages -> {
+            batchSizes.add(messages.size());
+            return CompletableFuture.supplyAsync(
+                    () -> messages.stream().map(key::sign).toList());
+        };
+
+        new AccountCreateTransaction()
+                .setNodeAccountIds(List.of(AccountId.fromString("1.1.1"), AccountId.fromString("1.1.2")))
+                .freezeWith(server.client)
+                .signWithBatch(key.getPublicKey(), signer)
+                .executeAsync(server.client)
+                .get();
+
+        Assertions.assertEquals(2, service.buffer.transactionRequestsReceived.size());
+        Assertions.assertEquals(List.of(2, 2), batchSizes);
+
+        server.close();
+    }
+
     @ParameterizedTest(name = "[{2}] Executable retries on {1} Hedera status error(s) {0}")
     @CsvSource({
         "BUSY, 1, sync",
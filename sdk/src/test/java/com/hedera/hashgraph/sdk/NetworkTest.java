@@ -0,0 +1,228 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NetworkTest {
+    private static final AccountId NODE_3 = new AccountId(0, 0, 3);
+    private static final AccountId NODE_4 = new AccountId(0, 0, 4);
+
+    ExecutorService executor;
+    Network network;
+
+    @BeforeEach
+    void setup() {
+        executor = Client.createExecutor();
+        network = Network.forNetwork(
+                executor,
+                Map.of(
+                        "in-process:node3a", NODE_3,
+                        "in-process:node3b", NODE_3,
+                        "in-process:node4", NODE_4));
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        network.beginClose();
+        network.awaitClose(Instant.now().plusSeconds(1), null);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void nodeProxiesAreGroupedByKey() {
+        assertThat(network.getNodes()).hasSize(3);
+        assertThat(network.getNodeProxies(NODE_3)).hasSize(2);
+        assertThat(network.getNodeProxies(NODE_4)).hasSize(1);
+        assertThat(network.getNumberOfNodesForRequest()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshotIsImmutable() {
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> network.getNodes().clear());
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> network.getNodeProxies(NODE_3).clear());
+    }
+
+    @Test
+    void increaseBackoffPublishesNewSnapshot() {
+        var node = network.getNodeProxies(NODE_4).get(0);
+        var before = network.snapshot;
+
+        network.increaseBackoff(node);
+
+        assertThat(network.snapshot).isNotSameAs(before);
+        assertThat(network.snapshot.healthyNodes).doesNotContain(node).hasSize(2);
+        assertThat(before.healthyNodes).contains(node);
+        assertThat(network.snapshot.nodes).isSameAs(before.nodes);
+    }
+
+    @Test
+    void readmitNodesRestoresHealthyNodes() {
+        network.setMinNodeReadmitTime(Duration.ZERO);
+        network.setMaxNodeReadmitTime(Duration.ZERO);
+
+        for (var node : network.getNodes()) {
+            network.increaseBackoff(node);
+            node.readmitTime = Instant.now().minusSeconds(1);
+        }
+        assertThat(network.snapshot.healthyNodes).isEmpty();
+
+        network.earliestReadmitTime = Instant.EPOCH;
+        assertThat(network.getRandomNode()).isNotNull();
+        assertThat(network.snapshot.healthyNodes).hasSize(3);
+    }
+
+    @Test
+    void setNetworkKeepsExistingNodes() throws Exception {
+        var kept = network.getNodeProxies(NODE_4).get(0);
+
+        network.setNetwork(Map.of("in-process:node4", NODE_4, "in-process:node5", new AccountId(0, 0, 5)));
+
+        assertThat(network.getNodes()).hasSize(2).contains(kept);
+        assertThat(network.getNodeProxies(NODE_3)).isNull();
+        assertThat(network.snapshot.healthyNodes).hasSize(2);
+    }
+
+    @Test
+    void setNetworkKeepsHealthAndClosesRemovedNodesInTheBackground() throws Exception {
+        var removed = network.getNodeProxies(NODE_3).get(0);
+        var backedOff = network.getNodeProxies(NODE_4).get(0);
+        var channel = removed.getChannel();
+        network.increaseBackoff(backedOff);
+
+        network.setNetwork(Map.of("in-process:node4", NODE_4, "in-process:node5", new AccountId(0, 0, 5)));
+
+        assertThat(network.getNodes()).hasSize(2).contains(backedOff).doesNotContain(removed);
+        assertThat(network.snapshot.healthyNodes).hasSize(1).doesNotContain(backedOff);
+        assertThat(channel.isShutdown()).isTrue();
+
+        awaitCondition(() -> removed.channels == null);
+        assertThat(channel.isTerminated()).isTrue();
+    }
+
+    @Test
+    void openCircuitIsOnlyClosedByASuccessfulProbe() throws Exception {
+        var node = network.getNodeProxies(NODE_4).get(0);
+        var probe = new CompletableFuture<Void>();
+        var probed = new CompletableFuture<Node>();
+        network.setHealthProbe(n -> {
+            probed.complete(n);
+            return probe;
+        });
+        network.setMinNodeReadmitTime(Duration.ZERO);
+        network.setMaxNodeReadmitTime(Duration.ZERO);
+
+        network.increaseBackoff(node);
+        assertThat(node.getCircuitState()).isEqualTo(Node.CircuitState.OPEN);
+        assertThat(node.isHealthy()).isFalse();
+
+        // Once the backoff passed the node is probed, not readmitted
+        node.readmitTime = Instant.now().minusSeconds(1);
+        network.earliestReadmitTime = Instant.EPOCH;
+        network.readmitNodes();
+
+        assertThat(probed).succeedsWithin(1, TimeUnit.SECONDS).isSameAs(node);
+        assertThat(node.getCircuitState()).isEqualTo(Node.CircuitState.HALF_OPEN);
+        assertThat(node.isHealthy()).isFalse();
+        assertThat(network.snapshot.healthyNodes).doesNotContain(node);
+
+        // The node answered the probe
+        node.closeHalfOpenCircuit();
+        probe.complete(null);
+        awaitCondition(() -> BaseNetwork.containsNode(network.snapshot.healthyNodes, node));
+
+        assertThat(node.getCircuitState()).isEqualTo(Node.CircuitState.CLOSED);
+        assertThat(network.snapshot.healthyNodes).contains(node);
+        assertThat(node.getConsecutiveFailures()).isZero();
+    }
+
+    @Test
+    void unansweredProbeOpensTheCircuitAgain() throws Exception {
+        var node = network.getNodeProxies(NODE_4).get(0);
+        var probe = new CompletableFuture<Void>();
+        network.setHealthProbe(n -> probe);
+        network.setMinNodeBackoff(Duration.ofHours(1));
+        network.setMaxNodeBackoff(Duration.ofHours(1));
+
+        network.increaseBackoff(node);
+        node.readmitTime = Instant.now().minusSeconds(1);
+        assertThat(network.startProbe(node)).isTrue();
+
+        probe.completeExceptionally(new TimeoutException());
+        awaitCondition(() -> node.getCircuitState() == Node.CircuitState.OPEN);
+
+        assertThat(node.getCircuitState()).isEqualTo(Node.CircuitState.OPEN);
+        assertThat(node.getConsecutiveFailures()).isEqualTo(2);
+        assertThat(network.snapshot.healthyNodes).doesNotContain(node);
+    }
+
+    @Test
+    void nodesWithoutProbeAreReadmittedWhenTheirBackoffPassed() {
+        var node = network.getNodeProxies(NODE_4).get(0);
+
+        network.increaseBackoff(node);
+        node.readmitTime = Instant.now().minusSeconds(1);
+        network.earliestReadmitTime = Instant.EPOCH;
+        network.readmitNodes();
+
+        assertThat(node.getCircuitState()).isEqualTo(Node.CircuitState.CLOSED);
+        assertThat(network.snapshot.healthyNodes).contains(node);
+    }
+
+    @Test
+    void deadNodesAreRemovedByConsecutiveFailures() throws Exception {
+        var node = network.getNodeProxies(NODE_4).get(0);
+        network.setMaxNodeAttempts(2);
+
+        network.increaseBackoff(node);
+        node.closeCircuit();
+        network.increaseBackoff(node);
+        network.getNumberOfMostHealthyNodes(1);
+        assertThat(network.getNodes()).contains(node);
+
+        network.increaseBackoff(node);
+        network.getNumberOfMostHealthyNodes(1);
+        assertThat(network.getNodes()).doesNotContain(node);
+    }
+
+    @Test
+    void nodesReadmittedWithoutProbeKeepTheirFailures() throws Exception {
+        var node = network.getNodeProxies(NODE_4).get(0);
+        network.setMaxNodeAttempts(2);
+        network.setMinNodeReadmitTime(Duration.ZERO);
+        network.setMaxNodeReadmitTime(Duration.ZERO);
+
+        network.increaseBackoff(node);
+        node.readmitTime = Instant.now().minusSeconds(1);
+        network.earliestReadmitTime = Instant.EPOCH;
+        network.readmitNodes();
+        assertThat(node.getCircuitState()).isEqualTo(Node.CircuitState.CLOSED);
+        assertThat(node.getConsecutiveFailures()).isEqualTo(1);
+
+        network.increaseBackoff(node);
+        network.getNumberOfMostHealthyNodes(1);
+        assertThat(network.getNodes()).doesNotContain(node);
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        // The probe completes on the network's executor
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
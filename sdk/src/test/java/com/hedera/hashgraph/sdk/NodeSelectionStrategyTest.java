@@ -0,0 +1,105 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NodeSelectionStrategyTest {
+    ExecutorService executor;
+    Node fastNode;
+    Node slowNode;
+
+    @BeforeEach
+    void setup() {
+        executor = Client.createExecutor();
+
+        fastNode = new Node(new AccountId(0, 0, 3), "in-process:fast", executor);
+        slowNode = new Node(new AccountId(0, 0, 4), "in-process:slow", executor);
+
+        fastNode.recordResponse(Duration.ofMillis(10).toNanos(), false);
+        slowNode.recordResponse(Duration.ofMillis(500).toNanos(), false);
+    }
+
+    @AfterEach
+    void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void powerOfTwoChoicesPrefersFasterNode() {
+        var random = new Random(42);
+        var nodes = List.of(fastNode, slowNode);
+        var fastCount = 0;
+
+        for (var i = 0; i < 1000; i++) {
+            if (NodeSelectionStrategy.POWER_OF_TWO_CHOICES.select(nodes, random) == fastNode) {
+                fastCount++;
+            }
+        }
+
+        // the slow node only wins when it is drawn twice
+        assertThat(fastCount).isGreaterThan(650);
+    }
+
+    @Test
+    void powerOfTwoChoicesPenalizesBusyNodes() {
+        var busyNode = new Node(new AccountId(0, 0, 5), "in-process:busy", executor);
+        for (var i = 0; i < 10; i++) {
+            busyNode.recordResponse(Duration.ofMillis(10).toNanos(), true);
+        }
+
+        assertThat(busyNode.getSelectionScore()).isGreaterThan(fastNode.getSelectionScore());
+    }
+
+    @Test
+    void randomSelectsEveryNode() {
+        var random = new Random(42);
+        var nodes = List.of(fastNode, slowNode);
+        var slowCount = 0;
+
+        for (var i = 0; i < 1000; i++) {
+            if (NodeSelectionStrategy.RANDOM.select(nodes, random) == slowNode) {
+                slowCount++;
+            }
+        }
+
+        assertThat(slowCount).isBetween(400, 600);
+    }
+
+    @Test
+    void networkKeepsTheOrderOfTheSelection() throws InterruptedException {
+        var network = Network.forNetwork(
+                        executor,
+                        Map.of("in-process:fast", fastNode.getAccountId(), "in-process:slow", slowNode.getAccountId()))
+                .setNodeSelectionStrategy(NodeSelectionStrategy.POWER_OF_TWO_CHOICES)
+                .setMaxNodesPerRequest(2);
+
+        for (var node : network.getNodes()) {
+            var latency = node.getAccountId().equals(fastNode.getAccountId()) ? 10 : 500;
+            node.recordResponse(Duration.ofMillis(latency).toNanos(), false);
+        }
+
+        var fastFirst = 0;
+        var slowFirst = 0;
+        for (var i = 0; i < 1000; i++) {
+            var nodeAccountIds = network.getNodeAccountIdsForExecute();
+            if (nodeAccountIds.get(0).equals(fastNode.getAccountId())) {
+                fastFirst++;
+            } else {
+                slowFirst++;
+            }
+        }
+
+        // the slow node is not sorted behind the fast one, it leads whenever the strategy picked it first
+        assertThat(fastFirst).isGreaterThan(slowFirst);
+        assertThat(slowFirst).isGreaterThan(100);
+    }
+}
@@ -0,0 +1,173 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import io.grpc.Deadline;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NodeTest {
+    ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        executor = Client.createExecutor();
+    }
+
+    @AfterEach
+    void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void channelConnectsToRunningServer() throws Exception {
+        var name = InProcessServerBuilder.generateName();
+        Server server =
+                InProcessServerBuilder.forName(name).directExecutor().build().start();
+
+        try {
+            var node = new Node(new AccountId(0, 0, 3), "in-process:" + name, executor);
+
+            assertThat(node.channelFailedToConnectAsync().get(5, TimeUnit.SECONDS))
+                    .isFalse();
+            assertThat(node.channelFailedToConnect(Deadline.after(5, TimeUnit.SECONDS)))
+                    .isFalse();
+
+            node.close(Duration.ofSeconds(1));
+        } finally {
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    void channelWaitsThroughTransientFailures() throws Exception {
+        var name = InProcessServerBuilder.generateName();
+        var node = new Node(new AccountId(0, 0, 3), "in-process:" + name, executor);
+
+        // Nothing listens yet, so the channel fails and gRPC reconnects it after a backoff
+        var connectionFailed = node.channelFailedToConnectAsync();
+        Server server =
+                InProcessServerBuilder.forName(name).directExecutor().build().start();
+
+        try {
+            assertThat(connectionFailed.get(9, TimeUnit.SECONDS)).isFalse();
+
+            node.close(Duration.ofSeconds(1));
+        } finally {
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    void shutDownChannelFailsWithoutWaitingForTimeout() throws Exception {
+        var node = new Node(new AccountId(0, 0, 3), "in-process:" + InProcessServerBuilder.generateName(), executor);
+        node.getChannel();
+        node.shutdownChannels();
+
+        var start = System.nanoTime();
+        assertThat(node.channelFailedToConnect(Deadline.after(30, TimeUnit.SECONDS)))
+                .isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+
+        node.close(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void concurrentWaitersShareTheSameFuture() throws Exception {
+        var name = InProcessServerBuilder.generateName();
+        Server server =
+                InProcessServerBuilder.forName(name).directExecutor().build().start();
+
+        try {
+            var node = new Node(new AccountId(0, 0, 3), "in-process:" + name, executor);
+
+            var first = node.channelFailedToConnectAsync();
+            var second = node.channelFailedToConnectAsync();
+            assertThat(first.isDone() || first == second).isTrue();
+            assertThat(second.get(5, TimeUnit.SECONDS)).isFalse();
+
+            node.close(Duration.ofSeconds(1));
+        } finally {
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    void callsAreSpreadAcrossTheChannelPool() throws Exception {
+        var name = InProcessServerBuilder.generateName();
+        Server server =
+                InProcessServerBuilder.forName(name).directExecutor().build().start();
+
+        try {
+            var node = new Node(new AccountId(0, 0, 3), "in-process:" + name, executor).setChannelPoolSize(3);
+
+            assertThat(node.channelFailedToConnect(Deadline.after(5, TimeUnit.SECONDS)))
+                    .isFalse();
+            // Only ready channels are picked, and the other channels of the pool connect in the background
+            for (var i = 0; i < 500 && !Arrays.stream(node.channels).allMatch(pooled -> pooled.ready); i++) {
+                Thread.sleep(10);
+            }
+            assertThat(node.channels).allMatch(pooled -> pooled.ready);
+
+            var used = new HashSet<ManagedChannel>();
+            for (var i = 0; i < 3; i++) {
+                used.add(node.getChannel());
+            }
+            assertThat(used).hasSize(3);
+
+            var removed = node.channels[2].channel;
+            node.setChannelPoolSize(2);
+            assertThat(node.channels).hasSize(2);
+            assertThat(removed.isShutdown()).isTrue();
+
+            node.close(Duration.ofSeconds(1));
+            assertThat(node.channels).isNull();
+        } finally {
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    void channelCredentialsAreSharedUntilTheCertHashChanges() {
+        var node = new Node(new AccountId(0, 0, 3), "127.0.0.1:50211", executor)
+                .setAddressBookEntry(new NodeAddress().setCertHash(ByteString.copyFromUtf8("a")));
+
+        var credentials = node.getChannelCredentials();
+        assertThat(node.getChannelCredentials()).isSameAs(credentials);
+        assertThat(node.toSecure().getChannelCredentials()).isSameAs(credentials);
+
+        node.setAddressBookEntry(new NodeAddress().setCertHash(ByteString.copyFromUtf8("a")));
+        assertThat(node.getChannelCredentials()).isSameAs(credentials);
+
+        node.setAddressBookEntry(new NodeAddress().setCertHash(ByteString.copyFromUtf8("b")));
+        assertThat(node.getChannelCredentials()).isNotSameAs(credentials);
+    }
+
+    @Test
+    void recordResponseTracksMovingAverages() {
+        var node = new Node(new AccountId(0, 0, 3), "in-process:test", executor);
+
+        assertThat(node.getSelectionScore()).isZero();
+
+        node.recordResponse(Duration.ofMillis(100).toNanos(), false);
+        assertThat(node.getAverageLatency()).isEqualTo(Duration.ofMillis(100));
+        assertThat(node.getBusyRate()).isZero();
+
+        node.recordResponse(Duration.ofMillis(200).toNanos(), true);
+        assertThat(node.getAverageLatency()).isEqualTo(Duration.ofMillis(120));
+        assertThat(node.getBusyRate()).isEqualTo(0.2);
+        assertThat(node.getSelectionScore())
+                .isGreaterThan((double) Duration.ofMillis(120).toNanos());
+    }
+}
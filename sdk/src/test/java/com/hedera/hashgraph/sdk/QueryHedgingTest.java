@@ -0,0 +1,192 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.hedera.hashgraph.sdk.proto.CryptoGetAccountBalanceResponse;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class QueryHedgingTest {
+    private static final AccountId SLOW_NODE = new AccountId(0, 0, 3);
+    private static final AccountId FAST_NODE = new AccountId(0, 0, 4);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<Server> servers = new ArrayList<>();
+    private final AtomicBoolean slowCallCancelled = new AtomicBoolean();
+    private Client client;
+
+    @BeforeEach
+    void setup() throws Exception {
+        var network = new HashMap<String, AccountId>();
+        network.put("in-process:" + startServer(Duration.ofSeconds(5), 1), SLOW_NODE);
+        network.put("in-process:" + startServer(Duration.ZERO, 2), FAST_NODE);
+
+        client = Client.forNetwork(network);
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        client.close();
+        for (var server : servers) {
+            server.shutdownNow();
+        }
+        scheduler.shutdownNow();
+    }
+
+    @ParameterizedTest(name = "[{0}] hedged query returns the first successful response")
+    @CsvSource({"sync", "async"})
+    void hedgedQueryReturnsFirstSuccessfulResponse(String executeVersion) throws Exception {
+        var query = new AccountBalanceQuery()
+                .setAccountId(new AccountId(0, 0, 10))
+                .setNodeAccountIds(List.of(SLOW_NODE, FAST_NODE))
+                .setHedgeDelay(Duration.ofMillis(100));
+
+        var start = System.nanoTime();
+        var balance = executeVersion.equals("sync")
+                ? query.execute(client)
+                : query.executeAsync(client).get(3, TimeUnit.SECONDS);
+
+        assertThat(balance.hbars).isEqualTo(Hbar.fromTinybars(2));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void hedgingIsDisabledByDefault() {
+        var query = new AccountBalanceQuery()
+                .setAccountId(new AccountId(0, 0, 10))
+                .setNodeAccountIds(List.of(SLOW_NODE, FAST_NODE));
+
+        assertThat(query.isHedgingEnabled()).isFalse();
+        assertThatExceptionOfType(java.util.concurrent.TimeoutException.class)
+                .isThrownBy(() -> query.executeAsync(client).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void losingCallIsCancelled() throws Exception {
+        new AccountBalanceQuery()
+                .setAccountId(new AccountId(0, 0, 10))
+                .setNodeAccountIds(List.of(SLOW_NODE, FAST_NODE))
+                .setHedgeDelay(Duration.ofMillis(100))
+                .executeAsync(client)
+                .get(3, TimeUnit.SECONDS);
+
+        Thread.sleep(200);
+        assertThat(slowCallCancelled).isTrue();
+    }
+
+    @ParameterizedTest(name = "[{0}] unsent hedge leaves the retry order unchanged")
+    @CsvSource({"sync", "async"})
+    void unsentHedgeLeavesRetryOrderUnchanged(String executeVersion) throws Exception {
+        var query = new AccountBalanceQuery()
+                .setAccountId(new AccountId(0, 0, 10))
+                .setNodeAccountIds(List.of(FAST_NODE, SLOW_NODE))
+                .setHedgeDelay(Duration.ofSeconds(1));
+
+        if (executeVersion.equals("sync")) {
+            query.execute(client);
+        } else {
+            query.executeAsync(client).get(3, TimeUnit.SECONDS);
+        }
+
+        // the fast node answered before the hedge was due, so only its attempt advanced the indexes
+        assertThat(query.nodes.getIndex()).isEqualTo(1);
+        assertThat(query.nodeAccountIds.getCurrent()).isEqualTo(SLOW_NODE);
+    }
+
+    @Test
+    void hedgeIsNotSentWithoutPermits() {
+        client.setAdaptiveConcurrency(true);
+
+        // the fast node has no permit left, so the hedge would have to wait for one
+        var limiter = client.network.getNodeProxies(FAST_NODE).get(0).getConcurrencyLimiter();
+        while (limiter.tryAcquire() != null) {
+            // take every permit
+        }
+        var inFlight = limiter.getInFlight();
+
+        var query = new AccountBalanceQuery()
+                .setAccountId(new AccountId(0, 0, 10))
+                .setNodeAccountIds(List.of(SLOW_NODE, FAST_NODE))
+                .setHedgeDelay(Duration.ofMillis(100));
+
+        assertThatExceptionOfType(java.util.concurrent.TimeoutException.class)
+                .isThrownBy(() -> query.executeAsync(client).get(1, TimeUnit.SECONDS));
+        assertThat(limiter.getInFlight()).isEqualTo(inFlight);
+        assertThat(limiter.getWaiting()).isZero();
+    }
+
+    @Test
+    void adaptiveHedgeDelayRequiresLatencySamples() {
+        var node = new Node(SLOW_NODE, "in-process:unused", client.executor);
+        var query = new AccountBalanceQuery().setHedgingEnabled(true);
+
+        assertThat(query.getHedgeDelay(node)).isNull();
+
+        node.recordResponse(Duration.ofMillis(100).toNanos(), false);
+        assertThat(query.getHedgeDelay(node)).isGreaterThan(Duration.ofMillis(100));
+
+        assertThat(new AccountBalanceQuery().getHedgeDelay(node)).isNull();
+    }
+
+    private String startServer(Duration delay, long balance) throws Exception {
+        var name = InProcessServerBuilder.generateName();
+        var service = new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void cryptoGetBalance(Query request, StreamObserver<Response> responseObserver) {
+                var response = Response.newBuilder()
+                        .setCryptogetAccountBalance(CryptoGetAccountBalanceResponse.newBuilder()
+                                .setHeader(
+                                        ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                                .setAccountID(new AccountId(0, 0, 10).toProtobuf())
+                                .setBalance(balance))
+                        .build();
+
+                if (delay.isZero()) {
+                    responseObserver.onNext(response);
+                    responseObserver.onCompleted();
+                    return;
+                }
+
+                var serverObserver = (io.grpc.stub.ServerCallStreamObserver<Response>) responseObserver;
+                serverObserver.setOnCancelHandler(() -> slowCallCancelled.set(true));
+                scheduler.schedule(
+                        () -> {
+                            if (!serverObserver.isCancelled()) {
+                                responseObserver.onNext(response);
+                                responseObserver.onCompleted();
+                            }
+                        },
+                        delay.toMillis(),
+                        TimeUnit.MILLISECONDS);
+            }
+        };
+
+        servers.add(InProcessServerBuilder.forName(name)
+                .addService(service)
+                .directExecutor()
+                .build()
+                .start());
+        return name;
+    }
+}
@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+    @Test
+    void rejectsInvalidParameters() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new RetryBudget(-0.1, 0, 1));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new RetryBudget(0.2, -1, 1));
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new RetryBudget(0.2, 0, 0));
+    }
+
+    @Test
+    void startsFullAndRejectsOnceEmpty() {
+        var budget = new RetryBudget(0.2, 0, 3);
+
+        assertThat(budget.getAvailableRetries()).isEqualTo(3);
+        for (var i = 0; i < 3; i++) {
+            assertThat(budget.tryAcquire()).isTrue();
+        }
+
+        assertThat(budget.tryAcquire()).isFalse();
+        assertThat(budget.getRetriesAllowed()).isEqualTo(3);
+        assertThat(budget.getRetriesRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void successesEarnRetriesUpToTheMaximum() {
+        var budget = new RetryBudget(0.2, 0, 2);
+
+        budget.tryAcquire();
+        budget.tryAcquire();
+        assertThat(budget.getAvailableRetries()).isZero();
+
+        // five successes earn a single retry
+        for (var i = 0; i < 5; i++) {
+            budget.onSuccess();
+        }
+        assertThat(budget.getAvailableRetries()).isEqualTo(1);
+
+        for (var i = 0; i < 100; i++) {
+            budget.onSuccess();
+        }
+        assertThat(budget.getAvailableRetries()).isEqualTo(2);
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        var budget = new RetryBudget(0, 100, 1);
+
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+
+        Thread.sleep(50);
+        assertThat(budget.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void unlimitedBudgetAllowsEveryRetry() {
+        var budget = RetryBudget.unlimited();
+
+        for (var i = 0; i < 1000; i++) {
+            assertThat(budget.tryAcquire()).isTrue();
+        }
+
+        assertThat(budget.isUnlimited()).isTrue();
+        assertThat(budget.getAvailableRetries()).isEqualTo(Long.MAX_VALUE);
+    }
+}
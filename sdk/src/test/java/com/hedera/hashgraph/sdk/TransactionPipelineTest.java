@@ -0,0 +1,141 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class TransactionPipelineTest {
+    private static final int COUNT = 20;
+
+    /**
+     * Answers OK for every transaction, except for those with the memo "fail".
+     */
+    private static List<Object> responses() {
+        var call = (Function<Object, Object>) o -> {
+            try {
+                var signedTransaction = SignedTransaction.parseFrom(((Transaction) o).getSignedTransactionBytes());
+                var body = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
+                var code = body.getMemo().equals("fail")
+                        ? ResponseCodeEnum.INSUFFICIENT_PAYER_BALANCE
+                        : ResponseCodeEnum.OK;
+                return TransactionResponse.newBuilder()
+                        .setNodeTransactionPrecheckCode(code)
+                        .build();
+            } catch (Throwable e) {
+                return new RuntimeException(e);
+            }
+        };
+
+        return Collections.nCopies(COUNT, call);
+    }
+
+    private static Stream<FileCreateTransaction> transactions(int failing) {
+        return IntStream.range(0, COUNT)
+                .mapToObj(i -> new FileCreateTransaction().setTransactionMemo(i == failing ? "fail" : "" + i));
+    }
+
+    @Test
+    void rejectsInvalidMaxInFlight() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of()))) {
+            var pipeline = mocker.client.newTransactionPipeline();
+
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> pipeline.setMaxInFlight(0));
+            assertThat(pipeline.getMaxInFlight()).isEqualTo(TransactionPipeline.DEFAULT_MAX_IN_FLIGHT);
+        }
+    }
+
+    @Test
+    void submitsEveryTransactionWithinTheWindow() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(responses()))) {
+            var pulled = new AtomicInteger();
+            var delivered = new AtomicInteger();
+            var maxOutstanding = new AtomicInteger();
+            var results = Collections.synchronizedList(new ArrayList<TransactionPipeline.Result>());
+
+            mocker.client
+                    .newTransactionPipeline()
+                    .setMaxInFlight(3)
+                    .submit(transactions(-1).peek(transaction -> pulled.incrementAndGet()), result -> {
+                        maxOutstanding.accumulateAndGet(pulled.get() - delivered.getAndIncrement(), Math::max);
+                        results.add(result);
+                    })
+                    .get(10, TimeUnit.SECONDS);
+
+            assertThat(results).hasSize(COUNT).allMatch(TransactionPipeline.Result::isSuccess);
+            assertThat(results).allMatch(result -> result.getResponse() != null);
+            assertThat(maxOutstanding.get()).isLessThanOrEqualTo(3);
+        }
+    }
+
+    @Test
+    void submissionOrderingDeliversResultsInOrder() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(responses()))) {
+            var indices = Collections.synchronizedList(new ArrayList<Long>());
+
+            mocker.client
+                    .newTransactionPipeline()
+                    .setMaxInFlight(8)
+                    .setOrdering(TransactionPipeline.Ordering.SUBMISSION)
+                    .submit(transactions(-1), result -> indices.add(result.getIndex()))
+                    .get(10, TimeUnit.SECONDS);
+
+            assertThat(indices)
+                    .containsExactlyElementsOf(
+                            LongStream.range(0, COUNT).boxed().toList());
+        }
+    }
+
+    @Test
+    void failedTransactionDoesNotStopThePipeline() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(responses()))) {
+            var results = Collections.synchronizedList(new ArrayList<TransactionPipeline.Result>());
+
+            mocker.client
+                    .newTransactionPipeline()
+                    .setMaxInFlight(4)
+                    .submit(transactions(5), results::add)
+                    .get(10, TimeUnit.SECONDS);
+
+            assertThat(results).hasSize(COUNT);
+            var failed = results.stream().filter(result -> !result.isSuccess()).toList();
+            assertThat(failed).hasSize(1);
+            assertThat(failed.get(0).getIndex()).isEqualTo(5);
+            assertThat(failed.get(0).getResponse()).isNull();
+            assertThat(failed.get(0).getError()).isInstanceOf(PrecheckStatusException.class);
+            assertThat(((PrecheckStatusException) failed.get(0).getError()).status)
+                    .isEqualTo(Status.INSUFFICIENT_PAYER_BALANCE);
+        }
+    }
+
+    @Test
+    void throwingConsumerCompletesExceptionally() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(responses()))) {
+            var future = mocker.client
+                    .newTransactionPipeline()
+                    .setMaxInFlight(1)
+                    .submit(transactions(-1), result -> {
+                        throw new IllegalStateException("consumer failed");
+                    });
+
+            assertThatExceptionOfType(CompletionException.class)
+                    .isThrownBy(future::join)
+                    .withCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -15,6 +15,10 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -150,6 +154,122 @@ public class TransactionTest {
                 .isEqualTo(accountCreateTransaction2.getTransactionSize());
     }
 
+    @Test
+    @DisplayName("body of each node is produced on first use and matches a full build of the body for that node")
+    void bodyForEachNodeIsProducedOnFirstUse() {
+        var transaction = new TransferTransaction()
+                .addHbarTransfer(testAccountId, new Hbar(-10))
+                .addHbarTransfer(AccountId.fromString("0.0.1001"), new Hbar(10))
+                .setTransactionMemo("memo")
+                .setTransactionId(testTransactionID)
+                .setNodeAccountIds(testNodeAccountIds)
+                .freeze();
+
+        assertThat(transaction.innerSignedTransactions)
+                .allSatisfy(signedTransaction ->
+                        assertThat(signedTransaction.getBodyBytes().isEmpty()).isTrue());
+
+        transaction.makeRequest();
+        assertThat(transaction.innerSignedTransactions.get(0).getBodyBytes().isEmpty())
+                .isFalse();
+        assertThat(transaction.innerSignedTransactions.get(1).getBodyBytes().isEmpty())
+                .isTrue();
+
+        for (var i = 0; i < testNodeAccountIds.size(); i++) {
+            var expected = transaction
+                    .frozenBodyBuilder
+                    .clone()
+                    .setNodeAccountID(testNodeAccountIds.get(i).toProtobuf())
+                    .build()
+                    .toByteString();
+
+            assertThat(transaction.getInnerSignedTransaction(i).getBodyBytes()).isEqualTo(expected);
+        }
+
+        var noTransactionId = TransactionBody.newBuilder().setMemo("memo");
+        var template = new TransactionBodyTemplate(noTransactionId, testNodeAccountIds);
+        assertThat(template.getBodyBytes(0))
+                .isEqualTo(noTransactionId
+                        .clone()
+                        .setNodeAccountID(testNodeAccountIds.get(0).toProtobuf())
+                        .build()
+                        .toByteString());
+        assertThat(noTransactionId.getNodeAccountID())
+                .isEqualTo(testNodeAccountIds.get(1).toProtobuf());
+    }
+
+    @Test
+    @DisplayName("transactions built on a signing executor match the ones built on the calling thread")
+    void signingExecutorBuildsTheSameBytes() {
+        var ecdsaKey = PrivateKey.generateECDSA();
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var sequential = spawnChunkedTransaction().sign(mockPrivateKey).sign(ecdsaKey);
+            var parallel = spawnChunkedTransaction()
+                    .sign(mockPrivateKey)
+                    .sign(ecdsaKey)
+                    .setSigningExecutor(executor);
+
+            assertThat(parallel.getSigningExecutor()).isSameAs(executor);
+            assertThat(parallel.toBytes()).isEqualTo(sequential.toBytes());
+            assertThat(parallel.sigPairLists)
+                    .allSatisfy(sigMap -> assertThat(sigMap.getSigPairCount()).isEqualTo(2));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("transactions are built on the calling thread when the signing executor never runs a task")
+    void starvedSigningExecutorDoesNotBlockTheBuild() {
+        var sequential = spawnChunkedTransaction().sign(mockPrivateKey);
+        var starved = spawnChunkedTransaction().sign(mockPrivateKey).setSigningExecutor(task -> {});
+
+        assertThat(starved.toBytes()).isEqualTo(sequential.toBytes());
+    }
+
+    @Test
+    @DisplayName("batch signer signs the bodies of all nodes and chunks in one call")
+    void batchSignerSignsAllBodiesInOneCall() {
+        var key = PrivateKey.generateED25519();
+        var batchSizes = new CopyOnWriteArrayList<Integer>();
+        TransactionSigner slowSigner = messages -> {
+            batchSizes.add(messages.size());
+            return CompletableFuture.supplyAsync(
+                    () -> messages.stream().map(key::sign).toList(),
+                    CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+        };
+
+        // The signatures keep the order the signers were added in
+        var transaction = spawnChunkedTransaction().sign(mockPrivateKey).signWithBatch(key.getPublicKey(), slowSigner);
+        var expected = spawnChunkedTransaction().sign(mockPrivateKey).sign(key).toBytes();
+
+        assertThat(transaction.toBytes()).isEqualTo(expected);
+        assertThat(transaction.toBytes()).isEqualTo(expected);
+        assertThat(batchSizes).containsExactly(transaction.innerSignedTransactions.size());
+
+        batchSizes.clear();
+        new FileDeleteTransaction()
+                .setFileId(fileID)
+                .setNodeAccountIds(testNodeAccountIds)
+                .setTransactionId(testTransactionID)
+                .freeze()
+                .signWithBatch(key.getPublicKey(), slowSigner)
+                .getTransactionHash();
+        assertThat(batchSizes).containsExactly(1);
+    }
+
+    private FileAppendTransaction spawnChunkedTransaction() {
+        return new FileAppendTransaction()
+                .setFileId(fileID)
+                .setContents(new byte[4096])
+                .setChunkSize(1024)
+                .setNodeAccountIds(testNodeAccountIds)
+                .setTransactionId(testTransactionID)
+                .freeze();
+    }
+
     @Test
     @DisplayName("signed Transaction should have larger size")
     void signedTransactionShouldHaveLargerSize() {
@@ -11,4 +11,4 @@ javaModules {
 
 includeBuild("examples")
 
-includeBuild("example-android")
+// LOCAL includeBuild("example-android")